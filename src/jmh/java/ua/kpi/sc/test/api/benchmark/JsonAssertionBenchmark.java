@@ -0,0 +1,83 @@
+package ua.kpi.sc.test.api.benchmark;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ua.kpi.sc.test.api.assertion.JsonAssert;
+import ua.kpi.sc.test.api.assertion.JsonMatchers;
+import ua.kpi.sc.test.api.util.JsonHelper;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasItem;
+
+/**
+ * Cost of two body assertions on a 100-user list page: REST Assured GPath ({@code then().body(...)})
+ * vs. {@link JsonAssert}, once parsing the body per chain and once on the response's shared tree.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonAssertionBenchmark {
+
+    private static final String LAST_NAME = "User99";
+
+    private byte[] body;
+    private Response response;
+
+    @Setup
+    public void setUp() {
+        String users = IntStream.range(0, 100)
+                .mapToObj(i -> """
+                        {"id":"%08d-0000-0000-0000-000000000000","email":"user%d@test.kpi.ua","firstName":"User%d",\
+                        "lastName":"User%d","capabilityTier":%d,"active":true}""".formatted(i, i, i, i, i % 4))
+                .collect(Collectors.joining(","));
+        String json = "{\"content\":[" + users + "],\"totalElements\":100,\"size\":100,\"number\":0}";
+        body = json.getBytes();
+        response = newResponse(json);
+    }
+
+    @Benchmark
+    public Object restAssuredGPath() {
+        return response.then()
+                .body("content.lastName", hasItem(LAST_NAME))
+                .body("content.size()", greaterThanOrEqualTo(1));
+    }
+
+    @Benchmark
+    public Object jsonAssertFreshParse() {
+        return JsonAssert.assertThatJson(JsonHelper.objectMapper().readTree(body))
+                .body("content.lastName", JsonMatchers.hasItem(LAST_NAME))
+                .body("content.size()", JsonMatchers.greaterThanOrEqualTo(1));
+    }
+
+    @Benchmark
+    public Object jsonAssertSharedTree() {
+        return JsonAssert.assertThatJson(response)
+                .body("content.lastName", JsonMatchers.hasItem(LAST_NAME))
+                .body("content.size()", JsonMatchers.greaterThanOrEqualTo(1));
+    }
+
+    private static Response newResponse(String json) {
+        return new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType("application/json")
+                .setBody(json)
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package ua.kpi.sc.test.api.benchmark;
+
+import io.qameta.allure.restassured.AllureRestAssured;
+import io.restassured.specification.RequestSpecification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ua.kpi.sc.test.api.client.HttpConnectionPool;
+import ua.kpi.sc.test.api.client.RequestSpecCache;
+import ua.kpi.sc.test.api.config.Config;
+import ua.kpi.sc.test.api.util.JsonHelper;
+import ua.kpi.sc.test.api.util.LoggingFilter;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Cost of building the request specification handed to every ApiClient call:
+ * per-call construction (pre-cache behaviour) vs. stamping a cached template.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestSpecBenchmark {
+
+    private static final String TOKEN = "benchmark-token";
+
+    private final LoggingFilter loggingFilter = new LoggingFilter();
+
+    @Setup
+    public void setUp() {
+        // Warm the config and the cached templates outside of the measurement
+        Config.get();
+        RequestSpecCache.forToken(TOKEN);
+    }
+
+    @Benchmark
+    public RequestSpecification perCallConstruction() {
+        RequestSpecification spec = given()
+                .config(JsonHelper.configWithJackson3().httpClient(HttpConnectionPool.httpClientConfig()))
+                .baseUri(Config.baseUrl())
+                .contentType("application/json")
+                .accept("application/json")
+                .filter(new AllureRestAssured())
+                .filter(loggingFilter);
+        spec.header("Authorization", "Bearer " + TOKEN);
+        return spec;
+    }
+
+    @Benchmark
+    public RequestSpecification cachedTemplate() {
+        return RequestSpecCache.forToken(TOKEN);
+    }
+}
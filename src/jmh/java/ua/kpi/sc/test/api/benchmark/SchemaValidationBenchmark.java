@@ -0,0 +1,60 @@
+package ua.kpi.sc.test.api.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jackson.JsonLoader;
+import io.restassured.module.jsv.JsonSchemaValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ua.kpi.sc.test.api.util.SchemaRegistry;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one schema assertion on a problem-detail body:
+ * REST Assured's classpath matcher (pre-registry behaviour) vs. the precompiled {@link SchemaRegistry},
+ * from the raw body and from an already-parsed tree.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SchemaValidationBenchmark {
+
+    private static final String SCHEMA = "problem-detail.json";
+    private static final String BODY = """
+            {"type":"https://api.sc.kpi.ua/problems/validation","title":"Bad Request","status":400,\
+            "detail":"email must be a well-formed email address","instance":"/api/v1/auth/login"}""";
+
+    private JsonNode parsedBody;
+
+    @Setup
+    public void setUp() throws Exception {
+        SchemaRegistry.preloadAll();
+        parsedBody = JsonLoader.fromString(BODY);
+    }
+
+    @Benchmark
+    public boolean restAssuredMatcher() {
+        return JsonSchemaValidator.matchesJsonSchemaInClasspath("schemas/" + SCHEMA).matches(BODY);
+    }
+
+    @Benchmark
+    public boolean registryFromBody() throws Exception {
+        return SchemaRegistry.validate(SCHEMA, BODY).isSuccess();
+    }
+
+    @Benchmark
+    public boolean registryFromParsedTree() throws Exception {
+        return SchemaRegistry.validate(SCHEMA, parsedBody).isSuccess();
+    }
+}
@@ -0,0 +1,13 @@
+package ua.kpi.sc.test.api.assertion;
+
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Predicate on a JSON node with a description for failure messages; see {@link JsonMatchers}.
+ */
+public interface JsonMatcher {
+
+    boolean matches(JsonNode actual);
+
+    String description();
+}
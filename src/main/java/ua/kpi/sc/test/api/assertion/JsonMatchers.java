@@ -0,0 +1,93 @@
+package ua.kpi.sc.test.api.assertion;
+
+import tools.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.util.function.Predicate;
+
+/**
+ * Matchers evaluated directly on Jackson nodes, named after their Hamcrest counterparts so
+ * {@code response.then().body(path, hasItem(x))} migrates by swapping the static import.
+ * <p>
+ * Numbers compare by value regardless of type ({@code equalTo(3)} matches {@code 3.0}).
+ */
+public final class JsonMatchers {
+
+    private JsonMatchers() {}
+
+    public static JsonMatcher equalTo(Object expected) {
+        return matcher("<" + describe(expected) + ">", actual -> valueEquals(actual, expected));
+    }
+
+    public static JsonMatcher notNullValue() {
+        return matcher("not null", actual -> !actual.isMissingNode() && !actual.isNull());
+    }
+
+    public static JsonMatcher nullValue() {
+        return matcher("null", actual -> actual.isMissingNode() || actual.isNull());
+    }
+
+    public static JsonMatcher hasItem(Object expected) {
+        return matcher("a collection containing <" + describe(expected) + ">", actual -> {
+            if (!actual.isArray()) {
+                return false;
+            }
+            for (JsonNode element : actual) {
+                if (valueEquals(element, expected)) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    public static JsonMatcher hasSize(int size) {
+        return matcher("a collection with size <" + size + ">",
+                actual -> actual.isContainer() && actual.size() == size);
+    }
+
+    public static JsonMatcher greaterThanOrEqualTo(Number value) {
+        return matcher("a value equal to or greater than <" + value + ">",
+                actual -> actual.isNumber() && compare(actual, value) >= 0);
+    }
+
+    public static JsonMatcher lessThan(Number value) {
+        return matcher("a value less than <" + value + ">",
+                actual -> actual.isNumber() && compare(actual, value) < 0);
+    }
+
+    public static JsonMatcher matcher(String description, Predicate<JsonNode> predicate) {
+        return new JsonMatcher() {
+            @Override
+            public boolean matches(JsonNode actual) {
+                return predicate.test(actual);
+            }
+
+            @Override
+            public String description() {
+                return description;
+            }
+        };
+    }
+
+    private static boolean valueEquals(JsonNode actual, Object expected) {
+        return switch (expected) {
+            case null -> actual.isMissingNode() || actual.isNull();
+            case String text -> actual.isString() && actual.asString().equals(text);
+            case Boolean bool -> actual.isBoolean() && actual.booleanValue() == bool;
+            case Number number -> actual.isNumber() && compare(actual, number) == 0;
+            case Enum<?> constant -> actual.isString() && actual.asString().equals(constant.name());
+            case JsonNode node -> actual.equals(node);
+            default -> throw new IllegalArgumentException(
+                    "Unsupported expected value type " + expected.getClass().getName());
+        };
+    }
+
+    private static int compare(JsonNode actual, Number expected) {
+        return actual.decimalValue().compareTo(new BigDecimal(expected.toString()));
+    }
+
+    private static String describe(Object expected) {
+        return expected instanceof String ? "\"" + expected + "\"" : String.valueOf(expected);
+    }
+}
@@ -19,4 +19,15 @@ public record AuthContext(
     public static AuthContext forCredentials(String email, String password) {
         return new AuthContext(true, email, password, null, "explicit");
     }
+
+    public static AuthContext forPooledUser(String tier, String email, String password) {
+        return new AuthContext(true, email, password, tier, "pool");
+    }
+
+    /**
+     * Whether this is a {@code UserPool} account, which lives for one run and is not worth persisting.
+     */
+    public boolean pooled() {
+        return "pool".equals(source);
+    }
 }
@@ -1,21 +1,47 @@
 package ua.kpi.sc.test.api.auth;
 
+import io.restassured.http.Cookie;
 import io.restassured.response.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import tools.jackson.databind.JsonNode;
+import ua.kpi.sc.test.api.client.RequestSpecCache;
 import ua.kpi.sc.test.api.client.auth.AuthClient;
+import ua.kpi.sc.test.api.config.Config;
 import ua.kpi.sc.test.api.exception.AuthenticationException;
 import ua.kpi.sc.test.api.model.auth.LoginRequest;
+import ua.kpi.sc.test.api.util.JsonHelper;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 public final class AuthManager {
 
     private static final Logger log = LoggerFactory.getLogger(AuthManager.class);
     private static final ConcurrentHashMap<String, TokenInfo> tokenCache = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, CompletableFuture<TokenInfo>> inFlight = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, ScheduledFuture<?>> scheduledRefreshes = new ConcurrentHashMap<>();
     private static final AuthClient authClient = new AuthClient();
     private static final long TOKEN_EXPIRY_BUFFER_SECONDS = 60;
+    // Default 1h expiry matching backend JWT config, used when neither JWT exp nor cookie Max-Age is present
+    private static final long DEFAULT_TOKEN_LIFETIME_SECONDS = 3600;
+    private static final ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "auth-token-refresher");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     private AuthManager() {}
 
@@ -32,15 +58,62 @@ public final class AuthManager {
             return existing.accessToken();
         }
 
-        return tokenCache.compute(cacheKey, (key, current) -> {
-            if (current != null && !current.isExpired()) {
-                return current;
+        return acquireShared(cacheKey, current -> !current.isExpired(), () -> {
+            if (persisted(context)) {
+                return TokenStore.loadOrAcquire(context, () -> {
+                    log.info("Acquiring new token for {}", cacheKey);
+                    return acquireToken(context);
+                });
             }
-            log.info("Acquiring new token for {}", key);
+            log.info("Acquiring new token for {}", cacheKey);
             return acquireToken(context);
         }).accessToken();
     }
 
+    // Only one login per key is in flight; other callers for the same key join it,
+    // and callers for other keys are never blocked behind it.
+    private static TokenInfo acquireShared(String cacheKey, Predicate<TokenInfo> reusable, Supplier<TokenInfo> loader) {
+        var mine = new CompletableFuture<TokenInfo>();
+        CompletableFuture<TokenInfo> pending = inFlight.putIfAbsent(cacheKey, mine);
+        if (pending != null) {
+            return join(pending);
+        }
+
+        try {
+            TokenInfo current = tokenCache.get(cacheKey);
+            TokenInfo token = current != null && reusable.test(current) ? current : loader.get();
+            store(cacheKey, token);
+            mine.complete(token);
+            return token;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, mine);
+        }
+    }
+
+    private static TokenInfo join(CompletableFuture<TokenInfo> pending) {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+    }
+
+    private static void store(String cacheKey, TokenInfo token) {
+        TokenInfo previous = tokenCache.put(cacheKey, token);
+        if (previous != null && previous != token) {
+            RequestSpecCache.evict(previous.accessToken());
+        }
+        if (previous != token) {
+            scheduleRefresh(cacheKey, token);
+        }
+    }
+
     private static TokenInfo acquireToken(AuthContext context) {
         LoginRequest request = LoginRequest.builder()
                 .email(context.email())
@@ -61,26 +134,147 @@ public final class AuthManager {
                     response.getStatusCode(), response.getBody().asString());
         }
 
-        String accessToken = response.getCookie("access_token");
-        String refreshToken = response.getCookie("refresh_token");
-        if (accessToken == null) {
+        TokenInfo token = tokenFromResponse(context, response, null);
+        if (token == null) {
             throw new AuthenticationException(context.email(),
                     response.getStatusCode(), "No access_token cookie in login response");
         }
-        // Default 1h expiry matching backend JWT config, minus buffer
-        Instant expiresAt = Instant.now().plusSeconds(3600 - TOKEN_EXPIRY_BUFFER_SECONDS);
+        return token;
+    }
+
+    private static TokenInfo tokenFromResponse(AuthContext context, Response response, String fallbackRefreshToken) {
+        String accessToken = response.getCookie("access_token");
+        if (accessToken == null) {
+            return null;
+        }
+        String refreshToken = response.getCookie("refresh_token");
+        Instant expiresAt = resolveExpiry(accessToken, response.getDetailedCookie("access_token"));
+        return new TokenInfo(accessToken, refreshToken != null ? refreshToken : fallbackRefreshToken,
+                expiresAt, context);
+    }
+
+    private static Instant resolveExpiry(String accessToken, Cookie cookie) {
+        Optional<Instant> jwtExpiry = jwtExpiry(accessToken);
+        if (jwtExpiry.isPresent()) {
+            return jwtExpiry.get();
+        }
+        if (cookie != null && cookie.hasMaxAge() && cookie.getMaxAge() > 0) {
+            return Instant.now().plusSeconds(cookie.getMaxAge());
+        }
+        if (cookie != null && cookie.hasExpiryDate()) {
+            return cookie.getExpiryDate().toInstant();
+        }
+        return Instant.now().plusSeconds(DEFAULT_TOKEN_LIFETIME_SECONDS);
+    }
+
+    private static Optional<Instant> jwtExpiry(String token) {
+        String[] parts = token.split("\\.");
+        if (parts.length < 2) {
+            return Optional.empty();
+        }
+        try {
+            byte[] payload = Base64.getUrlDecoder().decode(parts[1]);
+            JsonNode exp = JsonHelper.objectMapper()
+                    .readTree(new String(payload, StandardCharsets.UTF_8))
+                    .get("exp");
+            return exp != null && exp.isNumber()
+                    ? Optional.of(Instant.ofEpochSecond(exp.asLong()))
+                    : Optional.empty();
+        } catch (Exception e) {
+            log.debug("Access token is not a parseable JWT, falling back to cookie expiry", e);
+            return Optional.empty();
+        }
+    }
+
+    private static void scheduleRefresh(String cacheKey, TokenInfo token) {
+        if (!Config.auth().isBackgroundRefresh()) {
+            return;
+        }
+        long lifetimeMs = Math.max(0, Duration.between(Instant.now(), token.expiresAt()).toMillis());
+        long refreshAheadMs = Config.auth().getRefreshAheadSeconds() * 1000;
+        // Short-lived tokens refresh at half-life rather than immediately and in a loop
+        long delayMs = Math.max(lifetimeMs / 2, lifetimeMs - refreshAheadMs);
+
+        ScheduledFuture<?> next = refresher.schedule(() -> refresh(cacheKey, token), delayMs, TimeUnit.MILLISECONDS);
+        ScheduledFuture<?> previous = scheduledRefreshes.put(cacheKey, next);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+        log.debug("Scheduled background refresh for {} in {}s", cacheKey, delayMs / 1000);
+    }
+
+    private static void refresh(String cacheKey, TokenInfo token) {
+        if (tokenCache.get(cacheKey) != token) {
+            return;
+        }
+        try {
+            // Reuse whatever another thread stored meanwhile; only replace the token we were scheduled for
+            acquireShared(cacheKey, current -> current != token, () -> {
+                TokenInfo refreshed = refreshWithCookie(token);
+                if (refreshed != null) {
+                    log.info("Refreshed token for {} via refresh_token", cacheKey);
+                } else {
+                    log.info("Refresh failed for {}, falling back to login", cacheKey);
+                    refreshed = acquireToken(token.context());
+                }
+                if (persisted(token.context())) {
+                    TokenStore.save(refreshed);
+                }
+                return refreshed;
+            });
+        } catch (RuntimeException e) {
+            // Non-fatal: getToken() logs in synchronously once the current token expires
+            log.warn("Background token refresh failed for {}: {}", cacheKey, e.getMessage());
+        }
+    }
+
+    private static TokenInfo refreshWithCookie(TokenInfo token) {
+        if (token.refreshToken() == null) {
+            return null;
+        }
+        try {
+            Response response = authClient.refreshToken(token.refreshToken());
+            if (response.getStatusCode() != 200) {
+                log.debug("Token refresh returned HTTP {}", response.getStatusCode());
+                return null;
+            }
+            return tokenFromResponse(token.context(), response, token.refreshToken());
+        } catch (Exception e) {
+            log.debug("Token refresh request failed", e);
+            return null;
+        }
+    }
+
+    /**
+     * Forgets the token of {@code email} and cancels its background refresh, e.g. once the account is discarded.
+     */
+    public static void evict(String email) {
+        ScheduledFuture<?> refresh = scheduledRefreshes.remove(email);
+        if (refresh != null) {
+            refresh.cancel(false);
+        }
+        TokenInfo token = tokenCache.remove(email);
+        if (token != null) {
+            RequestSpecCache.evict(token.accessToken());
+            log.debug("Evicted token for {}", email);
+        }
+    }
 
-        return new TokenInfo(accessToken, refreshToken, expiresAt);
+    // Pooled accounts are deleted at suite end, so their tokens would only crowd the shared file
+    private static boolean persisted(AuthContext context) {
+        return TokenStore.isEnabled() && !context.pooled();
     }
 
     public static void clearCache() {
         log.info("Clearing auth token cache ({} entries)", tokenCache.size());
+        scheduledRefreshes.values().forEach(future -> future.cancel(false));
+        scheduledRefreshes.clear();
         tokenCache.clear();
     }
 
-    record TokenInfo(String accessToken, String refreshToken, Instant expiresAt) {
+    record TokenInfo(String accessToken, String refreshToken, Instant expiresAt, AuthContext context) {
         boolean isExpired() {
-            return Instant.now().isAfter(expiresAt);
+            return Instant.now().isAfter(expiresAt.minusSeconds(TOKEN_EXPIRY_BUFFER_SECONDS));
         }
     }
 }
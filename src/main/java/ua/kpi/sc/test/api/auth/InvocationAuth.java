@@ -0,0 +1,35 @@
+package ua.kpi.sc.test.api.auth;
+
+/**
+ * Auth state of the test method invocation running on the current thread.
+ * <p>
+ * TestNG runs {@code @BeforeMethod}, the test method and {@code @AfterMethod} of one invocation
+ * on the same worker thread, so binding per thread isolates invocations that share a test
+ * instance under {@code parallel="methods"}, on platform and virtual threads alike.
+ */
+public final class InvocationAuth {
+
+    private static final ThreadLocal<Binding> current = new ThreadLocal<>();
+
+    private InvocationAuth() {}
+
+    public static void bind(AuthContext context, String token) {
+        current.set(new Binding(context, token));
+    }
+
+    public static String token() {
+        Binding binding = current.get();
+        return binding != null ? binding.token() : null;
+    }
+
+    public static AuthContext context() {
+        Binding binding = current.get();
+        return binding != null ? binding.context() : AuthContext.disabled();
+    }
+
+    public static void clear() {
+        current.remove();
+    }
+
+    private record Binding(AuthContext context, String token) {}
+}
@@ -0,0 +1,194 @@
+package ua.kpi.sc.test.api.auth;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ObjectNode;
+import ua.kpi.sc.test.api.config.Config;
+import ua.kpi.sc.test.api.util.JsonHelper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Optional file-backed token cache shared by forked test JVMs and repeated runs.
+ * <p>
+ * Entries are keyed by base URL and email and dropped once expired. A lookup holds an exclusive
+ * lock on a per-key {@code <file>.<hash>.lock} file from the check through the login to the write,
+ * so forks missing the same key log in once and the others reuse its token, while logins for
+ * different keys run in parallel. The sibling {@code .lock} file guards only reads and rewrites of
+ * the shared file; a write re-reads it under that lock and keeps the entry that expires last per
+ * key. Enabled with {@code auth.persistentCache}; the file holds live tokens and is created owner-only.
+ */
+final class TokenStore {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenStore.class);
+    // FileChannel locks are per process; these serialize threads of the same JVM
+    private static final ReentrantLock jvmLock = new ReentrantLock();
+    private static final Map<String, ReentrantLock> keyLocks = new ConcurrentHashMap<>();
+
+    private TokenStore() {}
+
+    static boolean isEnabled() {
+        return Config.auth().isPersistentCache();
+    }
+
+    static AuthManager.TokenInfo loadOrAcquire(AuthContext context, Supplier<AuthManager.TokenInfo> acquire) {
+        Path lockFile = keyLockFile(key(context.email()));
+        // Keyed by lock file, not by key: keys sharing a hash share the file, and a JVM may lock it only once
+        ReentrantLock keyLock = keyLocks.computeIfAbsent(lockFile.toString(), f -> new ReentrantLock());
+        keyLock.lock();
+        try {
+            Files.createDirectories(lockFile.toAbsolutePath().getParent());
+            try (FileChannel channel = FileChannel.open(lockFile,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 FileLock ignored = channel.lock()) {
+                return loadOrAcquireLocked(context, acquire);
+            }
+        } catch (IOException e) {
+            log.warn("Persistent token cache unavailable: {}", e.getMessage());
+            return acquire.get();
+        } finally {
+            keyLock.unlock();
+        }
+    }
+
+    private static AuthManager.TokenInfo loadOrAcquireLocked(AuthContext context,
+                                                             Supplier<AuthManager.TokenInfo> acquire) {
+        AuthManager.TokenInfo stored;
+        try {
+            stored = withLock(() -> fromEntry(context, read().get(key(context.email()))));
+        } catch (UncheckedIOException e) {
+            // Lock unavailable (e.g. read-only build dir): behave as if the cache were disabled
+            log.warn("Persistent token cache unavailable: {}", e.getMessage());
+            return acquire.get();
+        }
+        if (stored != null && !stored.isExpired()) {
+            log.info("Using token for {} from persistent cache {}", context.email(), cacheFile());
+            return stored;
+        }
+        AuthManager.TokenInfo acquired = acquire.get();
+        save(acquired);
+        return acquired;
+    }
+
+    static void save(AuthManager.TokenInfo token) {
+        try {
+            withLock(() -> {
+                write(read(), token);
+                return null;
+            });
+        } catch (UncheckedIOException e) {
+            // Non-fatal: the in-memory cache still holds the token
+            log.warn("Failed to persist token for {}: {}", token.context().email(), e.getMessage());
+        }
+    }
+
+    private static <T> T withLock(Supplier<T> action) {
+        Path file = cacheFile();
+        Path lockFile = file.resolveSibling(file.getFileName() + ".lock");
+        jvmLock.lock();
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (FileChannel channel = FileChannel.open(lockFile,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 FileLock ignored = channel.lock()) {
+                return action.get();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Token cache lock failed: " + lockFile, e);
+        } finally {
+            jvmLock.unlock();
+        }
+    }
+
+    private static ObjectNode read() {
+        Path file = cacheFile();
+        if (!Files.exists(file)) {
+            return JsonHelper.objectMapper().createObjectNode();
+        }
+        try {
+            JsonNode root = JsonHelper.objectMapper().readTree(Files.readString(file));
+            return root instanceof ObjectNode object ? object : JsonHelper.objectMapper().createObjectNode();
+        } catch (Exception e) {
+            log.warn("Ignoring unreadable token cache {}: {}", file, e.getMessage());
+            return JsonHelper.objectMapper().createObjectNode();
+        }
+    }
+
+    private static void write(ObjectNode entries, AuthManager.TokenInfo token) {
+        ObjectNode pruned = JsonHelper.objectMapper().createObjectNode();
+        long now = Instant.now().getEpochSecond();
+        for (Map.Entry<String, JsonNode> entry : entries.properties()) {
+            if (entry.getValue().path("expiresAt").asLong(0) > now) {
+                pruned.set(entry.getKey(), entry.getValue());
+            }
+        }
+
+        String key = key(token.context().email());
+        if (pruned.path(key).path("expiresAt").asLong(0) >= token.expiresAt().getEpochSecond()) {
+            // Another fork stored a token for this key meanwhile that lives at least as long
+            return;
+        }
+        ObjectNode entry = pruned.putObject(key);
+        entry.put("accessToken", token.accessToken());
+        entry.put("refreshToken", token.refreshToken());
+        entry.put("expiresAt", token.expiresAt().getEpochSecond());
+
+        Path file = cacheFile();
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Files.writeString(temp, JsonHelper.objectMapper().writeValueAsString(pruned));
+            restrictToOwner(temp);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // Non-fatal: the acquired token is still returned and cached in memory
+            log.warn("Failed to write token cache {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static AuthManager.TokenInfo fromEntry(AuthContext context, JsonNode entry) {
+        if (entry == null || !entry.hasNonNull("accessToken")) {
+            return null;
+        }
+        return new AuthManager.TokenInfo(
+                entry.get("accessToken").asString(),
+                entry.hasNonNull("refreshToken") ? entry.get("refreshToken").asString() : null,
+                Instant.ofEpochSecond(entry.path("expiresAt").asLong(0)),
+                context);
+    }
+
+    private static void restrictToOwner(Path file) {
+        try {
+            Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException | IOException e) {
+            log.debug("Could not restrict permissions of {}", file);
+        }
+    }
+
+    private static Path keyLockFile(String key) {
+        Path file = cacheFile();
+        return file.resolveSibling(file.getFileName() + "." + Integer.toHexString(key.hashCode()) + ".lock");
+    }
+
+    private static String key(String email) {
+        return Config.baseUrl() + "|" + email;
+    }
+
+    private static Path cacheFile() {
+        return Paths.get(Config.auth().getPersistentCacheFile());
+    }
+}
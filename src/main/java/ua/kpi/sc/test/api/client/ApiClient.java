@@ -1,72 +1,41 @@
 package ua.kpi.sc.test.api.client;
 
-import io.qameta.allure.restassured.AllureRestAssured;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 import ua.kpi.sc.test.api.config.Config;
-import ua.kpi.sc.test.api.exception.ApiConnectionException;
-import ua.kpi.sc.test.api.util.JsonHelper;
-import ua.kpi.sc.test.api.util.LoggingFilter;
-
-import java.net.ConnectException;
-import java.net.NoRouteToHostException;
-import java.net.SocketTimeoutException;
-import java.net.UnknownHostException;
+
 import java.util.Map;
-import java.util.Set;
 import java.util.function.Supplier;
 
-import static io.restassured.RestAssured.given;
-
 public class ApiClient {
 
-    private static final Set<Class<? extends Throwable>> CONNECTION_EXCEPTIONS = Set.of(
-            ConnectException.class,
-            SocketTimeoutException.class,
-            UnknownHostException.class,
-            NoRouteToHostException.class
-    );
-
-    private final LoggingFilter loggingFilter = new LoggingFilter();
-
     protected RequestSpecification requestSpec() {
-        return given()
-                .config(JsonHelper.configWithJackson3())
-                .baseUri(Config.baseUrl())
-                .contentType("application/json")
-                .accept("application/json")
-                .filter(new AllureRestAssured())
-                .filter(loggingFilter);
+        return RequestSpecCache.anonymous();
     }
 
     protected RequestSpecification requestSpec(String authToken) {
-        RequestSpecification spec = requestSpec();
-        if (authToken != null) {
-            spec.header("Authorization", "Bearer " + authToken);
-        }
-        return spec;
+        return RequestSpecCache.forToken(authToken);
+    }
+
+    /**
+     * Timeouts for a request to {@code path}; override to change them for a whole client.
+     */
+    protected RequestTimeouts timeouts(String path) {
+        return RequestTimeouts.forPath(path);
+    }
+
+    /**
+     * Non-blocking variant of this client's calls, returning futures; see {@link AsyncApiClient}.
+     */
+    public AsyncApiClient async() {
+        return new AsyncApiClient(this::timeouts);
     }
 
+    // Connection failures become ApiConnectionException; all calls share the base URL's circuit breaker
     private Response execute(String method, String path, Supplier<Response> call) {
-        try {
-            return call.get();
-        } catch (Exception e) {
-            if (isConnectionException(e)) {
-                throw new ApiConnectionException(method, Config.baseUrl() + path, e);
-            }
-            throw e;
-        }
-    }
-
-    private boolean isConnectionException(Throwable throwable) {
-        for (Throwable current = throwable; current != null; current = current.getCause()) {
-            for (Class<? extends Throwable> cls : CONNECTION_EXCEPTIONS) {
-                if (cls.isInstance(current)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        String url = Config.baseUrl() + path;
+        return CircuitBreaker.forUrl(Config.baseUrl()).execute(method, url,
+                () -> RequestDeadline.within(timeouts(path), method, url, call));
     }
 
     public Response get(String path) {
@@ -0,0 +1,268 @@
+package ua.kpi.sc.test.api.client;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StepResult;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.internal.assertion.CookieMatcher;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ua.kpi.sc.test.api.config.Config;
+import ua.kpi.sc.test.api.metrics.EndpointMetrics;
+import ua.kpi.sc.test.api.util.HttpTrace;
+import ua.kpi.sc.test.api.util.JsonHelper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Non-blocking companion of {@link ApiClient}, obtained from {@link ApiClient#async()}.
+ * <p>
+ * Requests share one {@link HttpClient} that negotiates HTTP/2 ({@code async.http2}), so concurrent calls are
+ * multiplexed over few connections, and complete on virtual threads: a test can fan out dozens of calls
+ * without a thread each. Every call returns at once with a future REST Assured {@link Response}, which supports
+ * the usual {@code then()}, {@code jsonPath()} and {@code ResponseBody} checks.
+ * <p>
+ * Like blocking calls, requests pass the base URL's {@link CircuitBreaker} and {@link RequestDeadline}
+ * (limits are fixed on submission; the read timeout bounds the wait for the response headers and the connect
+ * timeout is the shared client's {@code timeouts.connectMs}). They are recorded in the endpoint metrics, in the
+ * {@link HttpTrace} of the submitting thread and as an Allure step of the test that submitted them.
+ */
+public class AsyncApiClient {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncApiClient.class);
+    private static volatile HttpClient httpClient;
+    private static ExecutorService executor;
+
+    private final Function<String, RequestTimeouts> timeouts;
+
+    AsyncApiClient(Function<String, RequestTimeouts> timeouts) {
+        this.timeouts = timeouts;
+    }
+
+    public CompletableFuture<Response> get(String path) {
+        return send("GET", path, null, null);
+    }
+
+    public CompletableFuture<Response> get(String path, String authToken) {
+        return send("GET", path, null, authToken);
+    }
+
+    public CompletableFuture<Response> post(String path, Object body) {
+        return send("POST", path, body, null);
+    }
+
+    public CompletableFuture<Response> post(String path, Object body, String authToken) {
+        return send("POST", path, body, authToken);
+    }
+
+    public CompletableFuture<Response> put(String path, Object body) {
+        return send("PUT", path, body, null);
+    }
+
+    public CompletableFuture<Response> put(String path, Object body, String authToken) {
+        return send("PUT", path, body, authToken);
+    }
+
+    public CompletableFuture<Response> patch(String path, Object body) {
+        return send("PATCH", path, body, null);
+    }
+
+    public CompletableFuture<Response> patch(String path, Object body, String authToken) {
+        return send("PATCH", path, body, authToken);
+    }
+
+    public CompletableFuture<Response> delete(String path) {
+        return send("DELETE", path, null, null);
+    }
+
+    public CompletableFuture<Response> delete(String path, String authToken) {
+        return send("DELETE", path, null, authToken);
+    }
+
+    private CompletableFuture<Response> send(String method, String path, Object body, String authToken) {
+        String url = Config.baseUrl() + path;
+        String payload = switch (body) {
+            case null -> null;
+            case String text -> text;
+            default -> JsonHelper.toJson(body);
+        };
+        // Thread-bound hooks are captured here, on the submitting thread
+        Reporting reporting = RequestSpecCache.isReportingSuppressed() ? null : Reporting.capture();
+        return CircuitBreaker.forUrl(Config.baseUrl()).executeAsync(method, url,
+                () -> RequestDeadline.withinAsync(timeouts.apply(path), method, url,
+                        limits -> exchange(method, path, url, payload, authToken, limits, reporting)));
+    }
+
+    private static CompletableFuture<Response> exchange(String method, String path, String url, String payload,
+                                                        String authToken, RequestTimeouts limits, Reporting reporting) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofMillis(limits.readMs()))
+                .header("Accept", "application/json")
+                .method(method, payload == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(payload, StandardCharsets.UTF_8));
+        if (payload != null) {
+            builder.header("Content-Type", "application/json");
+        }
+        if (authToken != null) {
+            builder.header("Authorization", "Bearer " + authToken);
+        }
+        HttpRequest request = builder.build();
+        long bytesOut = payload == null ? 0 : payload.getBytes(StandardCharsets.UTF_8).length;
+        long start = System.nanoTime();
+        CompletableFuture<HttpResponse<byte[]>> sent =
+                client().sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+        CompletableFuture<Response> exchange = sent.handle((httpResponse, failure) -> {
+            long elapsedNanos = System.nanoTime() - start;
+            Response response = failure == null ? toResponse(httpResponse) : null;
+            Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                    ? failure.getCause() : failure;
+            if (Config.metrics().isEnabled()) {
+                if (response != null) {
+                    EndpointMetrics.record(method, path, elapsedNanos, response.getStatusCode(),
+                            bytesOut, httpResponse.body().length);
+                } else {
+                    EndpointMetrics.recordFailure(method, path, bytesOut);
+                }
+            }
+            if (reporting != null) {
+                reporting.record(request, payload, response,
+                        TimeUnit.NANOSECONDS.toMillis(elapsedNanos), cause);
+            }
+            if (failure != null) {
+                throw new CompletionException(cause);
+            }
+            return response;
+        });
+        // Cancelling the mapped stage does not reach sendAsync's future; forward it so the exchange is aborted
+        exchange.whenComplete((response, failure) -> {
+            if (exchange.isCancelled()) {
+                sent.cancel(true);
+            }
+        });
+        return exchange;
+    }
+
+    private static Response toResponse(HttpResponse<byte[]> httpResponse) {
+        List<Header> headers = new ArrayList<>();
+        httpResponse.headers().map().forEach((name, values) -> {
+            // Added back by setContentType, which REST Assured needs to pick a parser
+            if (!"content-type".equalsIgnoreCase(name)) {
+                values.forEach(value -> headers.add(new Header(name, value)));
+            }
+        });
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(httpResponse.statusCode())
+                .setStatusLine(statusLine(httpResponse))
+                .setHeaders(new Headers(headers))
+                .setCookies(CookieMatcher.getCookies(httpResponse.headers().allValues("Set-Cookie")))
+                .setBody(httpResponse.body());
+        httpResponse.headers().firstValue("Content-Type").ifPresent(builder::setContentType);
+        return builder.build();
+    }
+
+    private static String statusLine(HttpResponse<?> httpResponse) {
+        String protocol = httpResponse.version() == HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1";
+        return protocol + " " + httpResponse.statusCode();
+    }
+
+    /**
+     * Stops the shared client and its executor, aborting exchanges still in flight; the next call creates a new one.
+     */
+    public static synchronized void shutdown() {
+        if (httpClient != null) {
+            log.info("Shutting down async HTTP client");
+            httpClient.shutdownNow();
+            httpClient = null;
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    private static HttpClient client() {
+        HttpClient client = httpClient;
+        if (client == null) {
+            synchronized (AsyncApiClient.class) {
+                client = httpClient;
+                if (client == null) {
+                    executor = Executors.newVirtualThreadPerTaskExecutor();
+                    client = HttpClient.newBuilder()
+                            .version(Config.async().isHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                            .connectTimeout(Duration.ofMillis(Config.timeouts().getConnectMs()))
+                            .followRedirects(HttpClient.Redirect.NORMAL)
+                            .executor(executor)
+                            .build();
+                    httpClient = client;
+                    log.info("Async HTTP client created: version={}, connectTimeout={}ms",
+                            client.version(), Config.timeouts().getConnectMs());
+                }
+            }
+        }
+        return client;
+    }
+
+    /**
+     * The submitting thread's trace buffer and Allure test, which the completing thread reports to.
+     */
+    private record Reporting(HttpTrace.Recorder trace, String allureParent) {
+
+        static Reporting capture() {
+            return new Reporting(HttpTrace.recorder(), Allure.getLifecycle().getCurrentTestCaseOrStep().orElse(null));
+        }
+
+        void record(HttpRequest request, String payload, Response response, long timeMs, Throwable failure) {
+            List<Header> headers = new ArrayList<>();
+            request.headers().map().forEach((name, values) ->
+                    values.forEach(value -> headers.add(new Header(name, value))));
+            trace.record(new HttpTrace.Request(request.method(), request.uri().toString(), new Headers(headers), payload),
+                    response, timeMs, failure);
+            if (allureParent != null) {
+                attachStep(request, payload, response, timeMs, failure);
+            }
+        }
+
+        // The step is started with an explicit parent because this thread has no Allure context of its own
+        private void attachStep(HttpRequest request, String payload, Response response, long timeMs, Throwable failure) {
+            AllureLifecycle lifecycle = Allure.getLifecycle();
+            String uuid = UUID.randomUUID().toString();
+            String outcome = response != null ? response.getStatusLine() + " (" + timeMs + " ms)" : "failed";
+            lifecycle.startStep(allureParent, uuid, new StepResult()
+                    .setName("async " + request.method() + " " + request.uri() + " -> " + outcome)
+                    .setStatus(response != null ? Status.PASSED : Status.BROKEN));
+            try {
+                if (payload != null) {
+                    lifecycle.addAttachment("Request", "application/json", ".json",
+                            payload.getBytes(StandardCharsets.UTF_8));
+                }
+                if (response != null) {
+                    lifecycle.addAttachment("Response", response.getContentType(), "", response.asByteArray());
+                } else {
+                    lifecycle.addAttachment("Failure", "text/plain", ".txt",
+                            String.valueOf(failure).getBytes(StandardCharsets.UTF_8));
+                }
+            } finally {
+                lifecycle.stopStep(uuid);
+            }
+        }
+    }
+}
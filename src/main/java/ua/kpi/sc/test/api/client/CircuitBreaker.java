@@ -0,0 +1,253 @@
+package ua.kpi.sc.test.api.client;
+
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.SkipException;
+import ua.kpi.sc.test.api.config.Config;
+import ua.kpi.sc.test.api.config.TestConfig;
+import ua.kpi.sc.test.api.exception.ApiConnectionException;
+import ua.kpi.sc.test.api.exception.CircuitOpenException;
+import ua.kpi.sc.test.api.exception.RequestTimeoutException;
+
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Shared circuit breaker for outgoing HTTP calls, one per host ({@code circuitBreaker.perHost})
+ * or one for all hosts.
+ * <p>
+ * After {@code circuitBreaker.failureThreshold} consecutive connection failures (refused, unreachable,
+ * connect or read timeout) the circuit opens: further calls throw {@link CircuitOpenException}
+ * — or {@link SkipException} with {@code circuitBreaker.onOpen: skip} — without touching the network,
+ * so the remaining tests fail in milliseconds instead of each waiting out its own timeout.
+ * A background probe requests the host's root every {@code circuitBreaker.probeIntervalMs} and closes
+ * the circuit on the first response below 500; so does any call that succeeds meanwhile.
+ */
+public final class CircuitBreaker {
+
+    private static final Logger log = LoggerFactory.getLogger(CircuitBreaker.class);
+    private static final String SHARED_KEY = "*";
+    private static final Set<Class<? extends Throwable>> CONNECTION_EXCEPTIONS = Set.of(
+            ConnectException.class,
+            SocketTimeoutException.class,
+            UnknownHostException.class,
+            NoRouteToHostException.class
+    );
+
+    private static final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private static volatile ScheduledExecutorService prober;
+
+    private final String name;
+    private final URI probeUri;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong shortCircuited = new AtomicLong();
+    private volatile ScheduledFuture<?> probe;
+    private volatile boolean open;
+    private volatile long openedAtNanos;
+
+    private CircuitBreaker(String name, URI probeUri) {
+        this.name = name;
+        this.probeUri = probeUri;
+    }
+
+    /**
+     * Breaker guarding calls to {@code baseUrl}.
+     */
+    public static CircuitBreaker forUrl(String baseUrl) {
+        URI uri = URI.create(baseUrl);
+        String origin = uri.getScheme() + "://" + uri.getAuthority();
+        String key = Config.circuitBreaker().isPerHost() ? origin : SHARED_KEY;
+        return breakers.computeIfAbsent(key, k -> new CircuitBreaker(origin, URI.create(origin + "/")));
+    }
+
+    /**
+     * Runs {@code call} unless the circuit is open; connection failures are counted and rethrown
+     * as {@link ApiConnectionException}, other exceptions pass through untouched.
+     */
+    public Response execute(String method, String url, Supplier<Response> call) {
+        TestConfig.CircuitBreakerConfig config = Config.circuitBreaker();
+        rejectIfOpen(config, method, url);
+        try {
+            Response response = call.get();
+            recordSuccess();
+            return response;
+        } catch (Exception e) {
+            // REST Assured rethrows IOExceptions undeclared, so catch Exception rather than RuntimeException
+            RuntimeException replacement = recordFailure(config, method, url, e);
+            if (replacement != null) {
+                throw replacement;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * {@link #execute} for a call that completes asynchronously; an open circuit fails the returned future.
+     */
+    public CompletableFuture<Response> executeAsync(String method, String url,
+                                                    Supplier<CompletableFuture<Response>> call) {
+        TestConfig.CircuitBreakerConfig config = Config.circuitBreaker();
+        try {
+            rejectIfOpen(config, method, url);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return call.get().handle((response, failure) -> {
+            if (failure == null) {
+                recordSuccess();
+                return response;
+            }
+            Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                    ? failure.getCause() : failure;
+            RuntimeException replacement = recordFailure(config, method, url, cause);
+            throw new CompletionException(replacement != null ? replacement : cause);
+        });
+    }
+
+    public boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * Stops all probes and forgets every breaker's state.
+     */
+    public static synchronized void shutdown() {
+        if (prober != null) {
+            prober.shutdownNow();
+            prober = null;
+        }
+        breakers.values().forEach(breaker -> {
+            if (breaker.shortCircuited.get() > 0) {
+                log.info("Circuit for {} short-circuited {} calls in total", breaker.name, breaker.shortCircuited.get());
+            }
+        });
+        breakers.clear();
+    }
+
+    private void rejectIfOpen(TestConfig.CircuitBreakerConfig config, String method, String url) {
+        if (config.isEnabled() && open) {
+            shortCircuited.incrementAndGet();
+            var e = new CircuitOpenException(method, url, name, consecutiveFailures.get());
+            if ("skip".equalsIgnoreCase(config.getOnOpen())) {
+                throw new SkipException(e.getMessage(), e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Counts {@code failure} if it is a connection failure; returns the exception to throw instead, or {@code null}.
+     */
+    private RuntimeException recordFailure(TestConfig.CircuitBreakerConfig config,
+                                           String method, String url, Throwable failure) {
+        if (failure instanceof RequestTimeoutException timeout) {
+            // A silent or unreachable host counts; a slow response or an exhausted test budget does not
+            if (timeout.getPhase() == RequestTimeoutException.Phase.CONNECT
+                    || timeout.getPhase() == RequestTimeoutException.Phase.READ) {
+                recordConnectionFailure(config);
+            }
+            return null;
+        }
+        if (isConnectionException(failure)) {
+            recordConnectionFailure(config);
+            return new ApiConnectionException(method, url, failure);
+        }
+        return null;
+    }
+
+    private void recordSuccess() {
+        consecutiveFailures.set(0);
+        if (open) {
+            close("a request succeeded");
+        }
+    }
+
+    private void recordConnectionFailure(TestConfig.CircuitBreakerConfig config) {
+        int failures = consecutiveFailures.incrementAndGet();
+        if (config.isEnabled() && failures >= config.getFailureThreshold()) {
+            trip(config, failures);
+        }
+    }
+
+    private synchronized void trip(TestConfig.CircuitBreakerConfig config, int failures) {
+        if (open) {
+            return;
+        }
+        open = true;
+        openedAtNanos = System.nanoTime();
+        log.error("Circuit opened for {} after {} consecutive connection failures; calls will {} until it recovers",
+                name, failures, "skip".equalsIgnoreCase(config.getOnOpen()) ? "skip tests" : "fail fast");
+        long interval = Math.max(100, config.getProbeIntervalMs());
+        probe = prober().scheduleWithFixedDelay(this::probe, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void close(String reason) {
+        if (!open) {
+            return;
+        }
+        open = false;
+        consecutiveFailures.set(0);
+        if (probe != null) {
+            probe.cancel(false);
+            probe = null;
+        }
+        log.warn("Circuit closed for {} after {} ms ({}); {} calls were short-circuited so far",
+                name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - openedAtNanos), reason, shortCircuited.get());
+    }
+
+    private void probe() {
+        long interval = Math.max(100, Config.circuitBreaker().getProbeIntervalMs());
+        try (var client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(interval)).build()) {
+            var request = HttpRequest.newBuilder(probeUri).timeout(Duration.ofMillis(interval)).GET().build();
+            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            if (status < 500) {
+                close("probe got HTTP " + status);
+            } else {
+                log.debug("Circuit probe for {}: HTTP {}", name, status);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.debug("Circuit probe for {} failed: {}", name, e.toString());
+        }
+    }
+
+    private static boolean isConnectionException(Throwable throwable) {
+        for (Throwable current = throwable; current != null; current = current.getCause()) {
+            for (Class<? extends Throwable> cls : CONNECTION_EXCEPTIONS) {
+                if (cls.isInstance(current)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static synchronized ScheduledExecutorService prober() {
+        if (prober == null) {
+            prober = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("circuit-probe").daemon(true).factory());
+        }
+        return prober;
+    }
+}
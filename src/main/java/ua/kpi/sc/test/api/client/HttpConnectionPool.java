@@ -0,0 +1,138 @@
+package ua.kpi.sc.test.api.client;
+
+import io.restassured.config.HttpClientConfig;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.params.ClientPNames;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.params.HttpParams;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ua.kpi.sc.test.api.config.Config;
+import ua.kpi.sc.test.api.config.TestConfig;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared keep-alive connection pool behind every RestAssured request.
+ * <p>
+ * REST Assured writes per-request settings (redirects, timeouts) into the client's own
+ * {@code HttpParams}, so a single client instance cannot be shared between threads.
+ * Instead each request gets a throwaway {@link DefaultHttpClient} bound to one shared
+ * {@link PoolingClientConnectionManager}: params stay isolated, sockets are reused.
+ * That client applies the connect and read timeouts of {@link RequestDeadline#current()} to every request.
+ */
+@SuppressWarnings("deprecation")
+public final class HttpConnectionPool {
+
+    private static final Logger log = LoggerFactory.getLogger(HttpConnectionPool.class);
+    private static volatile PoolingClientConnectionManager connectionManager;
+    private static volatile ScheduledExecutorService evictor;
+
+    private HttpConnectionPool() {}
+
+    public static HttpClientConfig httpClientConfig() {
+        return HttpClientConfig.httpClientConfig()
+                .dontReuseHttpClientInstance()
+                .httpClientFactory(() -> new TimedHttpClient(connectionManager()));
+    }
+
+    public static PoolSnapshot stats() {
+        PoolingClientConnectionManager manager = connectionManager;
+        if (manager == null) {
+            return new PoolSnapshot(0, 0, 0, 0);
+        }
+        PoolStats total = manager.getTotalStats();
+        return new PoolSnapshot(total.getLeased(), total.getAvailable(), total.getPending(), total.getMax());
+    }
+
+    public static int maxPerRoute() {
+        return Config.connectionPool().getMaxPerRoute();
+    }
+
+    public static synchronized void shutdown() {
+        if (evictor != null) {
+            evictor.shutdownNow();
+            evictor = null;
+        }
+        if (connectionManager != null) {
+            log.info("Shutting down HTTP connection pool: {}", stats());
+            connectionManager.shutdown();
+            connectionManager = null;
+        }
+    }
+
+    private static PoolingClientConnectionManager connectionManager() {
+        if (connectionManager == null) {
+            synchronized (HttpConnectionPool.class) {
+                if (connectionManager == null) {
+                    connectionManager = createConnectionManager(Config.connectionPool());
+                }
+            }
+        }
+        return connectionManager;
+    }
+
+    private static PoolingClientConnectionManager createConnectionManager(TestConfig.ConnectionPoolConfig poolConfig) {
+        var manager = new PoolingClientConnectionManager();
+        manager.setMaxTotal(poolConfig.getMaxTotal());
+        manager.setDefaultMaxPerRoute(poolConfig.getMaxPerRoute());
+
+        long idleTimeoutMs = poolConfig.getIdleTimeoutMs();
+        evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "http-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        evictor.scheduleWithFixedDelay(() -> {
+            manager.closeExpiredConnections();
+            manager.closeIdleConnections(idleTimeoutMs, TimeUnit.MILLISECONDS);
+        }, poolConfig.getEvictionIntervalMs(), poolConfig.getEvictionIntervalMs(), TimeUnit.MILLISECONDS);
+
+        log.info("HTTP connection pool created: maxTotal={}, maxPerRoute={}, idleTimeout={}ms",
+                poolConfig.getMaxTotal(), poolConfig.getMaxPerRoute(), idleTimeoutMs);
+        return manager;
+    }
+
+    private static final class TimedHttpClient extends DefaultHttpClient {
+
+        TimedHttpClient(PoolingClientConnectionManager connectionManager) {
+            super(connectionManager);
+        }
+
+        @Override
+        public CloseableHttpResponse execute(HttpUriRequest request, HttpContext context) throws IOException {
+            applyTimeouts();
+            RequestDeadline.register(request);
+            return super.execute(request, context);
+        }
+
+        @Override
+        public CloseableHttpResponse execute(HttpHost target, HttpRequest request, HttpContext context) throws IOException {
+            applyTimeouts();
+            if (request instanceof HttpUriRequest uriRequest) {
+                RequestDeadline.register(uriRequest);
+            }
+            return super.execute(target, request, context);
+        }
+
+        private void applyTimeouts() {
+            RequestTimeouts timeouts = RequestDeadline.current();
+            HttpParams params = getParams();
+            HttpConnectionParams.setConnectionTimeout(params, (int) Math.min(Integer.MAX_VALUE, timeouts.connectMs()));
+            HttpConnectionParams.setSoTimeout(params, (int) Math.min(Integer.MAX_VALUE, timeouts.readMs()));
+            params.setLongParameter(ClientPNames.CONN_MANAGER_TIMEOUT, timeouts.connectMs());
+        }
+    }
+
+    public record PoolSnapshot(int leased, int available, int pending, int max) {}
+}
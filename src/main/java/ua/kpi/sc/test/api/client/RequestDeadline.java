@@ -0,0 +1,211 @@
+package ua.kpi.sc.test.api.client;
+
+import io.restassured.response.Response;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.conn.ConnectTimeoutException;
+import ua.kpi.sc.test.api.exception.RequestTimeoutException;
+import ua.kpi.sc.test.api.exception.RequestTimeoutException.Phase;
+
+import java.net.SocketTimeoutException;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Enforces {@link RequestTimeouts} on the calling thread's HTTP requests and an optional per-test budget.
+ * <p>
+ * Connect and read timeouts are socket settings applied by the pooled client ({@link HttpConnectionPool}).
+ * The total deadline is a timer that aborts the request, which also interrupts a body still being read.
+ * While a test budget is running ({@link #startTest}), every limit is capped by the time the test has left,
+ * so the test's calls together cannot exceed it. Timeouts surface as {@link RequestTimeoutException}
+ * naming the phase that ran out.
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<Long> testDeadlineNanos = new ThreadLocal<>();
+    private static final ThreadLocal<Scope> currentScope = new ThreadLocal<>();
+    private static final ScheduledThreadPoolExecutor timer = createTimer();
+
+    private RequestDeadline() {}
+
+    /**
+     * Starts the HTTP time budget of the test running on this thread; {@code budgetMs <= 0} means none.
+     */
+    public static void startTest(long budgetMs) {
+        if (budgetMs > 0) {
+            testDeadlineNanos.set(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMs));
+        } else {
+            testDeadlineNanos.remove();
+        }
+    }
+
+    public static void endTest() {
+        testDeadlineNanos.remove();
+    }
+
+    /**
+     * Runs {@code call} — one HTTP request — under {@code timeouts}, capped by the test budget.
+     */
+    public static <T> T within(RequestTimeouts timeouts, String method, String url, Supplier<T> call) {
+        Scope outer = currentScope.get();
+        Scope scope = new Scope(effective(timeouts, method, url));
+        scope.timer = timer.schedule(scope::fire, scope.timeouts.totalMs(), TimeUnit.MILLISECONDS);
+        currentScope.set(scope);
+        try {
+            T result = call.get();
+            if (result instanceof Response response) {
+                // REST Assured reads the body lazily; buffer it here so the total deadline covers it too
+                response.asByteArray();
+            }
+            return result;
+        } catch (Exception e) {
+            // REST Assured rethrows IOExceptions undeclared, so catch Exception rather than RuntimeException
+            Phase phase = scope.fired ? scope.deadlinePhase : phaseOf(e);
+            if (phase == null) {
+                throw e;
+            }
+            throw new RequestTimeoutException(method, url, phase, limit(scope.timeouts, phase), e);
+        } finally {
+            scope.timer.cancel(false);
+            currentScope.set(outer);
+        }
+    }
+
+    /**
+     * Asynchronous counterpart of {@link #within}: the limits, capped by the calling thread's test budget,
+     * are fixed on submission and handed to {@code call}, which must apply the connect and read timeouts itself.
+     * When the total deadline passes first, the returned future fails and the future from {@code call} is
+     * cancelled; {@code call} must forward that cancellation to the underlying exchange for it to be aborted.
+     */
+    static <T> CompletableFuture<T> withinAsync(RequestTimeouts timeouts, String method, String url,
+                                                Function<RequestTimeouts, CompletableFuture<T>> call) {
+        Scope.Limits limits;
+        try {
+            limits = effective(timeouts, method, url);
+        } catch (RequestTimeoutException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        RequestTimeouts effective = limits.timeouts();
+        CompletableFuture<T> exchange = call.apply(effective);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        ScheduledFuture<?> deadline = timer.schedule(() -> {
+            if (result.completeExceptionally(new RequestTimeoutException(
+                    method, url, limits.deadlinePhase(), effective.totalMs(), null))) {
+                exchange.cancel(true);
+            }
+        }, effective.totalMs(), TimeUnit.MILLISECONDS);
+        exchange.whenComplete((value, failure) -> {
+            deadline.cancel(false);
+            if (failure == null) {
+                result.complete(value);
+                return;
+            }
+            Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                    ? failure.getCause() : failure;
+            Phase phase = phaseOf(cause);
+            result.completeExceptionally(phase == null ? cause
+                    : new RequestTimeoutException(method, url, phase, limit(effective, phase), cause));
+        });
+        return result;
+    }
+
+    /**
+     * Timeouts for a request starting now on this thread: those of the enclosing {@link #within}, else the defaults.
+     */
+    static RequestTimeouts current() {
+        Scope scope = currentScope.get();
+        return scope != null ? scope.timeouts : RequestTimeouts.defaults();
+    }
+
+    /**
+     * Lets the total deadline of the enclosing {@link #within} abort {@code request}.
+     */
+    static void register(HttpUriRequest request) {
+        Scope scope = currentScope.get();
+        if (scope != null) {
+            scope.attach(request);
+        }
+    }
+
+    private static ScheduledThreadPoolExecutor createTimer() {
+        var executor = new ScheduledThreadPoolExecutor(1, Thread.ofPlatform().name("request-deadline").daemon(true).factory());
+        // Nearly every timer is cancelled; drop them at once instead of keeping them queued until due
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    private static Scope.Limits effective(RequestTimeouts timeouts, String method, String url) {
+        Long deadline = testDeadlineNanos.get();
+        if (deadline == null) {
+            return new Scope.Limits(timeouts, Phase.TOTAL);
+        }
+        long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        if (remainingMs <= 0) {
+            throw new RequestTimeoutException(method, url, Phase.TEST_BUDGET, 0, null);
+        }
+        if (remainingMs >= timeouts.totalMs()) {
+            return new Scope.Limits(timeouts, Phase.TOTAL);
+        }
+        return new Scope.Limits(new RequestTimeouts(
+                Math.min(timeouts.connectMs(), remainingMs),
+                Math.min(timeouts.readMs(), remainingMs),
+                remainingMs), Phase.TEST_BUDGET);
+    }
+
+    private static long limit(RequestTimeouts timeouts, Phase phase) {
+        return switch (phase) {
+            case CONNECT -> timeouts.connectMs();
+            case READ -> timeouts.readMs();
+            case TOTAL, TEST_BUDGET -> timeouts.totalMs();
+        };
+    }
+
+    private static Phase phaseOf(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            // Also covers ConnectionPoolTimeoutException, the wait for a pooled connection
+            if (t instanceof ConnectTimeoutException || t instanceof HttpConnectTimeoutException) {
+                return Phase.CONNECT;
+            }
+            // java.net.http reports its per-request timeout, the wait for the response headers, this way
+            if (t instanceof SocketTimeoutException || t instanceof HttpTimeoutException) {
+                return Phase.READ;
+            }
+        }
+        return null;
+    }
+
+    private static final class Scope {
+        private final RequestTimeouts timeouts;
+        private final Phase deadlinePhase;
+        private HttpUriRequest request;
+        private volatile boolean fired;
+        private ScheduledFuture<?> timer;
+
+        Scope(Limits limits) {
+            this.timeouts = limits.timeouts();
+            this.deadlinePhase = limits.deadlinePhase();
+        }
+
+        synchronized void attach(HttpUriRequest request) {
+            this.request = request;
+            if (fired) {
+                request.abort();
+            }
+        }
+
+        synchronized void fire() {
+            fired = true;
+            if (request != null) {
+                request.abort();
+            }
+        }
+
+        record Limits(RequestTimeouts timeouts, Phase deadlinePhase) {}
+    }
+}
@@ -0,0 +1,139 @@
+package ua.kpi.sc.test.api.client;
+
+import io.qameta.allure.restassured.AllureRestAssured;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.Filter;
+import io.restassured.http.Header;
+import io.restassured.specification.RequestSpecification;
+import ua.kpi.sc.test.api.config.Config;
+import ua.kpi.sc.test.api.metrics.EndpointMetricsFilter;
+import ua.kpi.sc.test.api.util.JsonHelper;
+import ua.kpi.sc.test.api.util.LoggingFilter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Prebuilt request templates: one anonymous and one per auth token.
+ * <p>
+ * A template holds the expensive, immutable parts of a request (the {@link RestAssuredConfig},
+ * the filter chain and the Authorization header) and stamps them onto a fresh {@code given()}
+ * spec on every call, so callers may still mutate the returned spec freely.
+ * Merging a prebuilt spec via {@code given().spec(...)} was measured to be slower than building
+ * from scratch, hence templates of parts rather than of whole specifications
+ * (see {@code RequestSpecBenchmark}).
+ * <p>
+ * Inside {@link #withoutReporting} the per-request Allure and logging filters are left out,
+ * for bulk traffic such as load generation that would otherwise flood the report and the log.
+ * The endpoint metrics filter, when enabled, stays in both chains.
+ */
+public final class RequestSpecCache {
+
+    // Tokens from AuthManager are few; ad-hoc tokens (freshly registered users, invalid tokens)
+    // are built uncached once the cache is full.
+    private static final int MAX_TOKEN_TEMPLATES = 64;
+    // Larger bodies (long list responses) are attached to Allure as-is instead of being re-parsed and indented
+    private static final int MAX_PRETTIFIED_ATTACHMENT = 64 * 1024;
+
+    private static final ConcurrentHashMap<String, SpecTemplate> tokenTemplates = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Boolean> reportingSuppressed = ThreadLocal.withInitial(() -> false);
+    private static volatile SpecTemplate anonymousTemplate;
+
+    private RequestSpecCache() {}
+
+    public static RequestSpecification anonymous() {
+        return anonymousTemplate().newSpec(reportingSuppressed.get());
+    }
+
+    public static RequestSpecification forToken(String authToken) {
+        if (authToken == null) {
+            return anonymous();
+        }
+        SpecTemplate template = tokenTemplates.get(authToken);
+        if (template == null) {
+            template = tokenTemplates.size() < MAX_TOKEN_TEMPLATES
+                    ? tokenTemplates.computeIfAbsent(authToken, token -> anonymousTemplate().withToken(token))
+                    : anonymousTemplate().withToken(authToken);
+        }
+        return template.newSpec(reportingSuppressed.get());
+    }
+
+    public static <T> T withoutReporting(Supplier<T> call) {
+        boolean outer = reportingSuppressed.get();
+        reportingSuppressed.set(true);
+        try {
+            return call.get();
+        } finally {
+            reportingSuppressed.set(outer);
+        }
+    }
+
+    static boolean isReportingSuppressed() {
+        return reportingSuppressed.get();
+    }
+
+    public static void evict(String authToken) {
+        if (authToken != null) {
+            tokenTemplates.remove(authToken);
+        }
+    }
+
+    public static void clear() {
+        tokenTemplates.clear();
+        anonymousTemplate = null;
+    }
+
+    private static SpecTemplate anonymousTemplate() {
+        SpecTemplate template = anonymousTemplate;
+        if (template == null) {
+            synchronized (RequestSpecCache.class) {
+                template = anonymousTemplate;
+                if (template == null) {
+                    List<Filter> filters = new ArrayList<>(List.of(
+                            new AllureRestAssured().setMaxAllowedPrettifyLength(MAX_PRETTIFIED_ATTACHMENT),
+                            new LoggingFilter()));
+                    List<Filter> quietFilters = new ArrayList<>();
+                    if (Config.metrics().isEnabled()) {
+                        Filter metrics = new EndpointMetricsFilter();
+                        filters.add(metrics);
+                        quietFilters.add(metrics);
+                    }
+                    template = new SpecTemplate(
+                            JsonHelper.configWithJackson3().httpClient(HttpConnectionPool.httpClientConfig()),
+                            Config.baseUrl(),
+                            List.copyOf(filters),
+                            List.copyOf(quietFilters),
+                            null);
+                    anonymousTemplate = template;
+                }
+            }
+        }
+        return template;
+    }
+
+    record SpecTemplate(RestAssuredConfig config, String baseUri, List<Filter> filters,
+                        List<Filter> quietFilters, Header authorization) {
+
+        SpecTemplate withToken(String authToken) {
+            return new SpecTemplate(config, baseUri, filters, quietFilters,
+                    new Header("Authorization", "Bearer " + authToken));
+        }
+
+        RequestSpecification newSpec(boolean quiet) {
+            RequestSpecification spec = given()
+                    .config(config)
+                    .baseUri(baseUri)
+                    .contentType("application/json")
+                    .accept("application/json")
+                    .filters(quiet ? quietFilters : filters);
+            if (authorization != null) {
+                spec.header(authorization);
+            }
+            return spec;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package ua.kpi.sc.test.api.client;
+
+import ua.kpi.sc.test.api.config.Config;
+import ua.kpi.sc.test.api.config.TestConfig;
+
+import java.util.Map;
+
+/**
+ * Timeouts of one HTTP request, in milliseconds.
+ *
+ * @param connectMs longest wait for a pooled connection and for the TCP connect
+ * @param readMs    longest silence on the socket while waiting for or reading the response
+ * @param totalMs   deadline for the whole exchange, from the call until the body has been read
+ */
+public record RequestTimeouts(long connectMs, long readMs, long totalMs) {
+
+    /**
+     * Configured defaults: {@code timeouts.connectMs}, {@code timeouts.readMs} and the top-level {@code timeout}.
+     */
+    public static RequestTimeouts defaults() {
+        return new RequestTimeouts(Config.timeouts().getConnectMs(), Config.timeouts().getReadMs(), Config.timeout());
+    }
+
+    /**
+     * Defaults with the {@code timeouts.endpoints} entry whose key is the longest prefix of {@code path} applied.
+     */
+    public static RequestTimeouts forPath(String path) {
+        RequestTimeouts timeouts = defaults();
+        String matched = null;
+        for (Map.Entry<String, TestConfig.EndpointTimeouts> entry : Config.timeouts().getEndpoints().entrySet()) {
+            String prefix = entry.getKey();
+            if (path.startsWith(prefix) && (matched == null || prefix.length() > matched.length())) {
+                matched = prefix;
+            }
+        }
+        return matched == null ? timeouts : timeouts.with(Config.timeouts().getEndpoints().get(matched));
+    }
+
+    public RequestTimeouts withConnectMs(long connectMs) {
+        return new RequestTimeouts(connectMs, readMs, totalMs);
+    }
+
+    public RequestTimeouts withReadMs(long readMs) {
+        return new RequestTimeouts(connectMs, readMs, totalMs);
+    }
+
+    public RequestTimeouts withTotalMs(long totalMs) {
+        return new RequestTimeouts(connectMs, readMs, totalMs);
+    }
+
+    // Zero fields of an override keep the current value
+    private RequestTimeouts with(TestConfig.EndpointTimeouts override) {
+        return new RequestTimeouts(
+                override.getConnectMs() > 0 ? override.getConnectMs() : connectMs,
+                override.getReadMs() > 0 ? override.getReadMs() : readMs,
+                override.getTotalMs() > 0 ? override.getTotalMs() : totalMs);
+    }
+}
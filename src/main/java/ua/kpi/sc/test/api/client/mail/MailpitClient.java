@@ -2,18 +2,19 @@ package ua.kpi.sc.test.api.client.mail;
 
 import io.qameta.allure.Step;
 import io.restassured.response.Response;
-import org.awaitility.core.ConditionTimeoutException;
+import io.restassured.specification.RequestSpecification;
+import ua.kpi.sc.test.api.client.CircuitBreaker;
+import ua.kpi.sc.test.api.client.HttpConnectionPool;
+import ua.kpi.sc.test.api.client.RequestDeadline;
+import ua.kpi.sc.test.api.client.RequestTimeouts;
 import ua.kpi.sc.test.api.config.Config;
-import ua.kpi.sc.test.api.exception.MailpitTimeoutException;
 import ua.kpi.sc.test.api.model.mail.MailpitMessageResponse;
 import ua.kpi.sc.test.api.model.mail.MailpitSearchResponse;
 import ua.kpi.sc.test.api.util.JsonHelper;
 
-import java.time.Duration;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import static io.restassured.RestAssured.given;
-import static org.awaitility.Awaitility.await;
 
 public class MailpitClient {
 
@@ -21,13 +22,24 @@ public class MailpitClient {
         return Config.mailpit().getBaseUrl();
     }
 
+    private RequestSpecification requestSpec() {
+        return given()
+                .config(JsonHelper.configWithJackson3().httpClient(HttpConnectionPool.httpClientConfig()))
+                .baseUri(baseUrl());
+    }
+
+    // Shares the Mailpit host's circuit breaker, separate from the API's unless circuitBreaker.perHost is off
+    private Response execute(String method, String path, Supplier<Response> call) {
+        String url = baseUrl() + path;
+        return CircuitBreaker.forUrl(baseUrl()).execute(method, url,
+                () -> RequestDeadline.within(RequestTimeouts.forPath(path), method, url, call));
+    }
+
     @Step("Search MailPit messages for recipient: {recipient}")
     public Response searchMessages(String recipient) {
-        return given()
-                .config(JsonHelper.configWithJackson3())
-                .baseUri(baseUrl())
+        return execute("GET", "/api/v1/search", () -> requestSpec()
                 .queryParam("query", "to:" + recipient)
-                .get("/api/v1/search");
+                .get("/api/v1/search"));
     }
 
     @Step("Search MailPit messages (typed) for recipient: {recipient}")
@@ -37,10 +49,8 @@ public class MailpitClient {
 
     @Step("Get MailPit message by ID: {id}")
     public Response getMessage(String id) {
-        return given()
-                .config(JsonHelper.configWithJackson3())
-                .baseUri(baseUrl())
-                .get("/api/v1/message/{id}", id);
+        return execute("GET", "/api/v1/message/" + id, () -> requestSpec()
+                .get("/api/v1/message/{id}", id));
     }
 
     @Step("Get MailPit message (typed) by ID: {id}")
@@ -55,39 +65,46 @@ public class MailpitClient {
 
     @Step("Wait for MailPit message for recipient: {recipient} (timeout: {timeoutSeconds}s)")
     public Response waitForMessage(String recipient, int timeoutSeconds) {
-        var lastStatusCode = new AtomicInteger(0);
-
-        try {
-            return await()
-                    .atMost(Duration.ofSeconds(timeoutSeconds))
-                    .pollInterval(Duration.ofMillis(Config.mailpit().getPollIntervalMs()))
-                    .pollDelay(Duration.ZERO)
-                    .until(() -> {
-                        Response response = searchMessages(recipient);
-                        lastStatusCode.set(response.statusCode());
-                        return response;
-                    }, response ->
-                            response.statusCode() == 200
-                                    && response.jsonPath().getInt("messages_count") > 0);
-        } catch (ConditionTimeoutException e) {
-            throw new MailpitTimeoutException(recipient, baseUrl(), timeoutSeconds, lastStatusCode.get());
-        }
+        MailpitInbox.shared().awaitMessage(recipient, timeoutSeconds);
+        return searchMessages(recipient);
     }
 
     @Step("Wait for MailPit message (typed) for recipient: {recipient}")
     public MailpitSearchResponse waitForMessageTyped(String recipient) {
-        return waitForMessage(recipient).as(MailpitSearchResponse.class);
+        return waitForMessageTyped(recipient, Config.mailpit().getTimeoutSeconds());
     }
 
     @Step("Wait for MailPit message (typed) for recipient: {recipient} (timeout: {timeoutSeconds}s)")
     public MailpitSearchResponse waitForMessageTyped(String recipient, int timeoutSeconds) {
-        return waitForMessage(recipient, timeoutSeconds).as(MailpitSearchResponse.class);
+        MailpitInbox inbox = MailpitInbox.shared();
+        inbox.awaitMessage(recipient, timeoutSeconds);
+        return inbox.messagesFor(recipient);
+    }
+
+    @Step("Wait for MailPit message body for recipient: {recipient}")
+    public MailpitMessageResponse waitForLatestMessage(String recipient) {
+        return MailpitInbox.shared().awaitMessage(recipient, Config.mailpit().getTimeoutSeconds());
     }
 
     @Step("Delete all MailPit messages")
     public Response deleteAllMessages() {
-        return given()
-                .baseUri(baseUrl())
-                .delete("/api/v1/messages");
+        Response response = execute("DELETE", "/api/v1/messages", () -> requestSpec()
+                .delete("/api/v1/messages"));
+        MailpitInbox.shared().clear();
+        return response;
+    }
+
+    // Used by the background indexer; no @Step, as it runs outside any test
+    Response listMessages(int start, int limit) {
+        return execute("GET", "/api/v1/messages", () -> requestSpec()
+                .queryParam("start", start)
+                .queryParam("limit", limit)
+                .get("/api/v1/messages"));
+    }
+
+    MailpitMessageResponse fetchMessage(String id) {
+        return execute("GET", "/api/v1/message/" + id, () -> requestSpec()
+                .get("/api/v1/message/{id}", id))
+                .as(MailpitMessageResponse.class);
     }
 }
@@ -0,0 +1,172 @@
+package ua.kpi.sc.test.api.client.mail;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tools.jackson.databind.JsonNode;
+import ua.kpi.sc.test.api.config.Config;
+import ua.kpi.sc.test.api.util.JsonHelper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single shared subscriber on Mailpit's {@code /api/events} WebSocket.
+ * <p>
+ * Listeners are notified on every {@code new} message event and on connection changes, so they
+ * can re-check and pick the right wait mode. While disconnected, {@link MailpitInbox} falls back to
+ * polling, and the stream reconnects in the background with exponential backoff.
+ */
+final class MailpitEventStream implements WebSocket.Listener {
+
+    private static final Logger log = LoggerFactory.getLogger(MailpitEventStream.class);
+    private static final long MAX_RECONNECT_DELAY_MS = 30_000;
+    private static volatile MailpitEventStream instance;
+
+    private final URI eventsUri;
+    private final HttpClient httpClient;
+    private final ScheduledExecutorService reconnector;
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+    private final StringBuilder partial = new StringBuilder();
+    private volatile WebSocket webSocket;
+    private volatile boolean connected;
+    private volatile boolean closed;
+    private long reconnectDelayMs = 500;
+
+    private MailpitEventStream(String baseUrl) {
+        this.eventsUri = URI.create(baseUrl.replaceFirst("^http", "ws") + "/api/events");
+        this.httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        this.reconnector = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mailpit-events-reconnect");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    static MailpitEventStream shared() {
+        MailpitEventStream stream = instance;
+        if (stream == null) {
+            synchronized (MailpitEventStream.class) {
+                if (instance == null) {
+                    instance = new MailpitEventStream(Config.mailpit().getBaseUrl());
+                    instance.connect();
+                }
+                stream = instance;
+            }
+        }
+        return stream;
+    }
+
+    boolean isConnected() {
+        return connected;
+    }
+
+    void addListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    private void connect() {
+        if (closed) {
+            return;
+        }
+        httpClient.newWebSocketBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .buildAsync(eventsUri, this)
+                .whenComplete((socket, error) -> {
+                    if (error != null) {
+                        log.debug("Mailpit event stream unavailable at {}: {}", eventsUri, error.getMessage());
+                        scheduleReconnect();
+                    }
+                });
+    }
+
+    private synchronized void scheduleReconnect() {
+        connected = false;
+        notifyListeners();
+        if (closed) {
+            return;
+        }
+        long delay = reconnectDelayMs;
+        reconnectDelayMs = Math.min(reconnectDelayMs * 2, MAX_RECONNECT_DELAY_MS);
+        reconnector.schedule(this::connect, delay, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void onOpen(WebSocket socket) {
+        webSocket = socket;
+        synchronized (this) {
+            reconnectDelayMs = 500;
+        }
+        connected = true;
+        log.info("Subscribed to Mailpit events at {}", eventsUri);
+        notifyListeners();
+        socket.request(1);
+    }
+
+    @Override
+    public CompletionStage<?> onText(WebSocket socket, CharSequence data, boolean last) {
+        partial.append(data);
+        if (last) {
+            String message = partial.toString();
+            partial.setLength(0);
+            dispatch(message);
+        }
+        socket.request(1);
+        return null;
+    }
+
+    @Override
+    public CompletionStage<?> onClose(WebSocket socket, int statusCode, String reason) {
+        log.debug("Mailpit event stream closed: {} {}", statusCode, reason);
+        scheduleReconnect();
+        return null;
+    }
+
+    @Override
+    public void onError(WebSocket socket, Throwable error) {
+        log.debug("Mailpit event stream failed: {}", error.getMessage());
+        scheduleReconnect();
+    }
+
+    private void dispatch(String message) {
+        try {
+            JsonNode event = JsonHelper.objectMapper().readTree(message);
+            if ("new".equals(event.path("Type").asString(""))) {
+                notifyListeners();
+            }
+        } catch (Exception e) {
+            log.debug("Ignoring unparseable Mailpit event: {}", e.getMessage());
+        }
+    }
+
+    private void notifyListeners() {
+        listeners.forEach(Runnable::run);
+    }
+
+    static void shutdown() {
+        MailpitEventStream stream;
+        synchronized (MailpitEventStream.class) {
+            stream = instance;
+            instance = null;
+        }
+        if (stream == null) {
+            return;
+        }
+        stream.closed = true;
+        stream.connected = false;
+        stream.reconnector.shutdownNow();
+        WebSocket socket = stream.webSocket;
+        if (socket != null) {
+            socket.abort();
+        }
+        stream.notifyListeners();
+        stream.httpClient.close();
+    }
+}
@@ -5,7 +5,6 @@ import ua.kpi.sc.test.api.client.auth.AuthClient;
 import ua.kpi.sc.test.api.data.TestDataFactory;
 import ua.kpi.sc.test.api.model.auth.ForgotPasswordRequest;
 import ua.kpi.sc.test.api.model.mail.MailpitMessageResponse;
-import ua.kpi.sc.test.api.model.mail.MailpitSearchResponse;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -29,9 +28,7 @@ public class MailpitHelper {
         ForgotPasswordRequest forgotRequest = TestDataFactory.validForgotPasswordRequest(email);
         authClient.forgotPassword(forgotRequest);
 
-        MailpitSearchResponse searchResponse = mailpitClient.waitForMessageTyped(email);
-        String messageId = searchResponse.getMessages().getFirst().getId();
-        MailpitMessageResponse message = mailpitClient.getMessageTyped(messageId);
+        MailpitMessageResponse message = mailpitClient.waitForLatestMessage(email);
 
         Matcher matcher = RESET_TOKEN_PATTERN.matcher(message.getText());
         assertThat(matcher.find()).as("Reset token should be present in email body").isTrue();
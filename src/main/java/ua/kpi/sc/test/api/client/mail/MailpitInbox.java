@@ -0,0 +1,293 @@
+package ua.kpi.sc.test.api.client.mail;
+
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tools.jackson.databind.JsonNode;
+import ua.kpi.sc.test.api.config.Config;
+import ua.kpi.sc.test.api.exception.MailpitTimeoutException;
+import ua.kpi.sc.test.api.model.mail.MailpitMessageResponse;
+import ua.kpi.sc.test.api.model.mail.MailpitSearchResponse;
+import ua.kpi.sc.test.api.util.JsonHelper;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory index of the Mailpit inbox shared by all waiters of the JVM.
+ * <p>
+ * One background thread pages through {@code /api/v1/messages} (newest first) until it reaches a
+ * message it has already seen, indexes new messages by recipient, prefetches the bodies of messages
+ * someone is waiting for and completes their futures. It runs only while there are waiters, woken by
+ * {@link MailpitEventStream} events or, without the stream, by polling with adaptive backoff.
+ * HTTP traffic therefore scales with new messages rather than with waiters times polls.
+ */
+public final class MailpitInbox {
+
+    private static final Logger log = LoggerFactory.getLogger(MailpitInbox.class);
+    private static final int PAGE_SIZE = 50;
+    private static final long MIN_POLL_INTERVAL_MS = 50;
+    private static final long PUSH_RECHECK_INTERVAL_MS = 5000;
+    private static volatile MailpitInbox instance;
+
+    private final MailpitClient client;
+    private final MailpitEventStream events;
+    private final ConcurrentHashMap<String, Recipient> recipients = new ConcurrentHashMap<>();
+    private final Set<String> seen = ConcurrentHashMap.newKeySet();
+    private final Semaphore wakeUp = new Semaphore(0);
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicInteger lastStatusCode = new AtomicInteger();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Thread indexer;
+    private volatile boolean closed;
+
+    private MailpitInbox(MailpitClient client) {
+        this.client = client;
+        this.events = Config.mailpit().isEventsEnabled() ? MailpitEventStream.shared() : null;
+        if (events != null) {
+            events.addListener(wakeUp::release);
+        }
+        this.indexer = new Thread(this::runIndexer, "mailpit-indexer");
+        this.indexer.setDaemon(true);
+        this.indexer.start();
+    }
+
+    static MailpitInbox shared() {
+        MailpitInbox inbox = instance;
+        if (inbox == null) {
+            synchronized (MailpitInbox.class) {
+                if (instance == null) {
+                    instance = new MailpitInbox(new MailpitClient());
+                }
+                inbox = instance;
+            }
+        }
+        return inbox;
+    }
+
+    /**
+     * Newest indexed message for the recipient, with its body, waiting up to the timeout for one to arrive.
+     */
+    MailpitMessageResponse awaitMessage(String recipient, int timeoutSeconds) {
+        CompletableFuture<IndexedMessage> arrival = register(recipient);
+        try {
+            IndexedMessage message = arrival.get(timeoutSeconds, TimeUnit.SECONDS);
+            return message.body() != null ? message.body() : body(message);
+        } catch (TimeoutException e) {
+            throw new MailpitTimeoutException(recipient, Config.mailpit().getBaseUrl(), timeoutSeconds,
+                    lastStatusCode.get());
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("MailPit indexer failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for MailPit message", e);
+        } finally {
+            unregister(recipient, arrival);
+        }
+    }
+
+    /**
+     * Indexed messages for the recipient, newest first, in the shape of a {@code to:} search result.
+     */
+    MailpitSearchResponse messagesFor(String recipient) {
+        Recipient state = recipients.get(key(recipient));
+        List<MailpitSearchResponse.MessageSummary> summaries = new ArrayList<>();
+        if (state != null) {
+            state.messages.forEach(message -> summaries.addFirst(message.summary()));
+        }
+        return MailpitSearchResponse.builder()
+                .messagesCount(summaries.size())
+                .messages(summaries)
+                .build();
+    }
+
+    /**
+     * Forgets everything indexed so far, e.g. after all messages were deleted in Mailpit.
+     */
+    void clear() {
+        generation.incrementAndGet();
+        seen.clear();
+        recipients.replaceAll((key, state) -> state.withoutMessages());
+    }
+
+    private CompletableFuture<IndexedMessage> register(String recipient) {
+        var arrival = new CompletableFuture<IndexedMessage>();
+        waiting.incrementAndGet();
+        recipients.compute(key(recipient), (key, state) -> {
+            Recipient target = state != null ? state : new Recipient();
+            if (!target.messages.isEmpty()) {
+                arrival.complete(target.messages.getLast());
+            } else {
+                target.waiters.add(arrival);
+            }
+            return target;
+        });
+        // New waiter: index right away, the message may already be in Mailpit
+        wakeUp.release();
+        return arrival;
+    }
+
+    private void unregister(String recipient, CompletableFuture<IndexedMessage> arrival) {
+        waiting.decrementAndGet();
+        recipients.computeIfPresent(key(recipient), (key, state) -> {
+            state.waiters.remove(arrival);
+            return state.waiters.isEmpty() && state.messages.isEmpty() ? null : state;
+        });
+    }
+
+    private boolean hasWaiters() {
+        return waiting.get() > 0;
+    }
+
+    private void runIndexer() {
+        long pollMs = MIN_POLL_INTERVAL_MS;
+        while (!closed) {
+            try {
+                if (!hasWaiters()) {
+                    wakeUp.acquire();
+                    wakeUp.drainPermits();
+                    pollMs = MIN_POLL_INTERVAL_MS;
+                }
+                int indexed = indexNewMessages();
+                pollMs = indexed > 0 ? MIN_POLL_INTERVAL_MS
+                        : Math.min(pollMs * 2, Math.max(MIN_POLL_INTERVAL_MS, Config.mailpit().getPollIntervalMs()));
+                long waitMs = events != null && events.isConnected() ? PUSH_RECHECK_INTERVAL_MS : pollMs;
+                if (hasWaiters() && wakeUp.tryAcquire(waitMs, TimeUnit.MILLISECONDS)) {
+                    wakeUp.drainPermits();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.debug("MailPit indexing pass failed: {}", e.getMessage());
+                sleepQuietly(pollMs);
+            }
+        }
+    }
+
+    private int indexNewMessages() {
+        long pass = generation.get();
+        List<JsonNode> fresh = new ArrayList<>();
+        for (int start = 0; ; start += PAGE_SIZE) {
+            Response response = client.listMessages(start, PAGE_SIZE);
+            lastStatusCode.set(response.statusCode());
+            if (response.statusCode() != 200) {
+                return 0;
+            }
+            JsonNode page = JsonHelper.objectMapper().readTree(response.asString()).path("messages");
+            boolean reachedSeen = false;
+            for (JsonNode message : page) {
+                if (seen.contains(message.path("ID").asString(""))) {
+                    reachedSeen = true;
+                    break;
+                }
+                fresh.add(message);
+            }
+            if (reachedSeen || page.size() < PAGE_SIZE) {
+                break;
+            }
+        }
+
+        // Oldest first, so the newest message ends up last for each recipient
+        for (JsonNode message : fresh.reversed()) {
+            if (generation.get() != pass) {
+                return 0;
+            }
+            index(message);
+        }
+        if (!fresh.isEmpty()) {
+            log.debug("Indexed {} new MailPit messages", fresh.size());
+        }
+        return fresh.size();
+    }
+
+    private void index(JsonNode message) {
+        String id = message.path("ID").asString("");
+        var summary = MailpitSearchResponse.MessageSummary.builder()
+                .id(id)
+                .subject(message.path("Subject").asString(null))
+                .created(message.path("Created").asString(null))
+                .build();
+        Set<String> addressed = new LinkedHashSet<>();
+        for (String field : List.of("To", "Cc", "Bcc")) {
+            for (JsonNode address : message.path(field)) {
+                addressed.add(key(address.path("Address").asString("")));
+            }
+        }
+
+        boolean awaited = addressed.stream()
+                .map(recipients::get)
+                .anyMatch(state -> state != null && !state.waiters.isEmpty());
+        // Prefetch only what someone is waiting for; other bodies are loaded on demand
+        var indexed = new IndexedMessage(summary, awaited ? client.fetchMessage(id) : null);
+
+        seen.add(id);
+        for (String recipient : addressed) {
+            recipients.compute(recipient, (key, state) -> {
+                Recipient target = state != null ? state : new Recipient();
+                target.messages.add(indexed);
+                target.waiters.forEach(waiter -> waiter.complete(indexed));
+                target.waiters.clear();
+                return target;
+            });
+        }
+    }
+
+    private MailpitMessageResponse body(IndexedMessage message) {
+        return client.fetchMessage(message.summary().getId());
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String key(String recipient) {
+        return recipient.toLowerCase(Locale.ROOT);
+    }
+
+    public static void shutdown() {
+        MailpitInbox inbox;
+        synchronized (MailpitInbox.class) {
+            inbox = instance;
+            instance = null;
+        }
+        if (inbox != null) {
+            inbox.closed = true;
+            inbox.indexer.interrupt();
+        }
+        MailpitEventStream.shutdown();
+    }
+
+    /**
+     * Mutated only inside {@code recipients.compute*}, so registering a waiter and indexing a message
+     * for the same recipient cannot interleave; concurrent collections keep lock-free reads safe.
+     */
+    private static final class Recipient {
+        final List<IndexedMessage> messages = new CopyOnWriteArrayList<>();
+        final Set<CompletableFuture<IndexedMessage>> waiters = ConcurrentHashMap.newKeySet();
+
+        Recipient withoutMessages() {
+            var cleared = new Recipient();
+            cleared.waiters.addAll(waiters);
+            return cleared;
+        }
+    }
+
+    record IndexedMessage(MailpitSearchResponse.MessageSummary summary, MailpitMessageResponse body) {}
+}
@@ -24,6 +24,10 @@ public final class Config {
         return ConfigurationManager.getConfig().getExecution();
     }
 
+    public static boolean isVirtualThreadMode() {
+        return "virtual".equalsIgnoreCase(ConfigurationManager.getConfig().getExecution().getMode());
+    }
+
     public static TestConfig.RetryConfig retry() {
         return ConfigurationManager.getConfig().getRetry();
     }
@@ -36,6 +40,46 @@ public final class Config {
         return ConfigurationManager.getConfig().getMailpit();
     }
 
+    public static TestConfig.ConnectionPoolConfig connectionPool() {
+        return ConfigurationManager.getConfig().getConnectionPool();
+    }
+
+    public static TestConfig.PerformanceConfig performance() {
+        return ConfigurationManager.getConfig().getPerformance();
+    }
+
+    public static TestConfig.MetricsConfig metrics() {
+        return ConfigurationManager.getConfig().getMetrics();
+    }
+
+    public static TestConfig.HttpTraceConfig httpTrace() {
+        return ConfigurationManager.getConfig().getHttpTrace();
+    }
+
+    public static TestConfig.ShardConfig shard() {
+        return ConfigurationManager.getConfig().getShard();
+    }
+
+    public static boolean isSharded() {
+        return ConfigurationManager.getConfig().getShard().getTotal() > 1;
+    }
+
+    public static TestConfig.CircuitBreakerConfig circuitBreaker() {
+        return ConfigurationManager.getConfig().getCircuitBreaker();
+    }
+
+    public static TestConfig.TimeoutsConfig timeouts() {
+        return ConfigurationManager.getConfig().getTimeouts();
+    }
+
+    public static TestConfig.AsyncConfig async() {
+        return ConfigurationManager.getConfig().getAsync();
+    }
+
+    public static TestConfig.UserPoolConfig userPool() {
+        return ConfigurationManager.getConfig().getUserPool();
+    }
+
     public static TestConfig get() {
         return ConfigurationManager.getConfig();
     }
@@ -7,6 +7,7 @@ import tools.jackson.dataformat.yaml.YAMLMapper;
 import ua.kpi.sc.test.api.exception.ConfigurationException;
 
 import java.io.InputStream;
+import java.util.LinkedHashMap;
 
 public final class ConfigurationManager {
 
@@ -73,12 +74,54 @@ public final class ConfigurationManager {
         if (overlay.getAuth().getTierCredentials() != null && !overlay.getAuth().getTierCredentials().isEmpty()) {
             base.getAuth().setTierCredentials(overlay.getAuth().getTierCredentials());
         }
+        if (!overlay.getAuth().isBackgroundRefresh()) {
+            base.getAuth().setBackgroundRefresh(false);
+        }
+        if (overlay.getAuth().getRefreshAheadSeconds() != 120) {
+            base.getAuth().setRefreshAheadSeconds(overlay.getAuth().getRefreshAheadSeconds());
+        }
+        if (overlay.getAuth().isPersistentCache()) {
+            base.getAuth().setPersistentCache(true);
+        }
+        if (!"build/auth-token-cache.json".equals(overlay.getAuth().getPersistentCacheFile())) {
+            base.getAuth().setPersistentCacheFile(overlay.getAuth().getPersistentCacheFile());
+        }
         if (overlay.getRetry().getMaxAttempts() != 0) {
             base.getRetry().setMaxAttempts(overlay.getRetry().getMaxAttempts());
         }
+        if (overlay.getRetry().getBackoffMs() != 1000) {
+            base.getRetry().setBackoffMs(overlay.getRetry().getBackoffMs());
+        }
+        if (overlay.getRetry().getMaxBackoffMs() != 30000) {
+            base.getRetry().setMaxBackoffMs(overlay.getRetry().getMaxBackoffMs());
+        }
+        if (overlay.getRetry().getBudget() != 20) {
+            base.getRetry().setBudget(overlay.getRetry().getBudget());
+        }
         if (overlay.getExecution().getThreadCount() != 1) {
             base.getExecution().setThreadCount(overlay.getExecution().getThreadCount());
         }
+        if (!"platform".equals(overlay.getExecution().getMode())) {
+            base.getExecution().setMode(overlay.getExecution().getMode());
+        }
+        if (overlay.getExecution().getVirtualConcurrency() != 200) {
+            base.getExecution().setVirtualConcurrency(overlay.getExecution().getVirtualConcurrency());
+        }
+        if (!overlay.getExecution().isOrderByDuration()) {
+            base.getExecution().setOrderByDuration(false);
+        }
+        if (!"build/test-durations.json".equals(overlay.getExecution().getDurationHistoryFile())) {
+            base.getExecution().setDurationHistoryFile(overlay.getExecution().getDurationHistoryFile());
+        }
+        if (overlay.getCleanup().getConcurrency() != 8) {
+            base.getCleanup().setConcurrency(overlay.getCleanup().getConcurrency());
+        }
+        if (overlay.getCleanup().getBatchSize() != 50) {
+            base.getCleanup().setBatchSize(overlay.getCleanup().getBatchSize());
+        }
+        if (!"after_suite".equals(overlay.getCleanup().getStrategy())) {
+            base.getCleanup().setStrategy(overlay.getCleanup().getStrategy());
+        }
         if (overlay.getMailpit() != null) {
             if (overlay.getMailpit().getBaseUrl() != null && !overlay.getMailpit().getBaseUrl().isEmpty()) {
                 base.getMailpit().setBaseUrl(overlay.getMailpit().getBaseUrl());
@@ -89,6 +132,107 @@ public final class ConfigurationManager {
             if (overlay.getMailpit().getPollIntervalMs() != 1000) {
                 base.getMailpit().setPollIntervalMs(overlay.getMailpit().getPollIntervalMs());
             }
+            if (!overlay.getMailpit().isEventsEnabled()) {
+                base.getMailpit().setEventsEnabled(false);
+            }
+        }
+        if (overlay.getConnectionPool() != null) {
+            if (overlay.getConnectionPool().getMaxTotal() != 50) {
+                base.getConnectionPool().setMaxTotal(overlay.getConnectionPool().getMaxTotal());
+            }
+            if (overlay.getConnectionPool().getMaxPerRoute() != 20) {
+                base.getConnectionPool().setMaxPerRoute(overlay.getConnectionPool().getMaxPerRoute());
+            }
+            if (overlay.getConnectionPool().getIdleTimeoutMs() != 30000) {
+                base.getConnectionPool().setIdleTimeoutMs(overlay.getConnectionPool().getIdleTimeoutMs());
+            }
+            if (overlay.getConnectionPool().getEvictionIntervalMs() != 5000) {
+                base.getConnectionPool().setEvictionIntervalMs(overlay.getConnectionPool().getEvictionIntervalMs());
+            }
+        }
+        if (overlay.getPerformance() != null) {
+            if (overlay.getPerformance().getRateScale() != 1.0) {
+                base.getPerformance().setRateScale(overlay.getPerformance().getRateScale());
+            }
+            if (overlay.getPerformance().getMaxInFlight() != 500) {
+                base.getPerformance().setMaxInFlight(overlay.getPerformance().getMaxInFlight());
+            }
+        }
+        if (overlay.getMetrics() != null) {
+            if (!overlay.getMetrics().isEnabled()) {
+                base.getMetrics().setEnabled(false);
+            }
+            if (overlay.getMetrics().getOutputFile() != null
+                    && !"build/endpoint-metrics.json".equals(overlay.getMetrics().getOutputFile())) {
+                base.getMetrics().setOutputFile(overlay.getMetrics().getOutputFile());
+            }
+        }
+        if (overlay.getHttpTrace() != null) {
+            if (overlay.getHttpTrace().getCapacity() != 32) {
+                base.getHttpTrace().setCapacity(overlay.getHttpTrace().getCapacity());
+            }
+            if (overlay.getHttpTrace().getMaxBodyChars() != 4096) {
+                base.getHttpTrace().setMaxBodyChars(overlay.getHttpTrace().getMaxBodyChars());
+            }
+        }
+        if (overlay.getShard() != null) {
+            if (overlay.getShard().getIndex() != 1) {
+                base.getShard().setIndex(overlay.getShard().getIndex());
+            }
+            if (overlay.getShard().getTotal() != 1) {
+                base.getShard().setTotal(overlay.getShard().getTotal());
+            }
+            if (overlay.getShard().getHistoryFile() != null) {
+                base.getShard().setHistoryFile(overlay.getShard().getHistoryFile());
+            }
+        }
+        if (overlay.getCircuitBreaker() != null) {
+            if (!overlay.getCircuitBreaker().isEnabled()) {
+                base.getCircuitBreaker().setEnabled(false);
+            }
+            if (overlay.getCircuitBreaker().getFailureThreshold() != 5) {
+                base.getCircuitBreaker().setFailureThreshold(overlay.getCircuitBreaker().getFailureThreshold());
+            }
+            if (!overlay.getCircuitBreaker().isPerHost()) {
+                base.getCircuitBreaker().setPerHost(false);
+            }
+            if (overlay.getCircuitBreaker().getOnOpen() != null
+                    && !"fail".equals(overlay.getCircuitBreaker().getOnOpen())) {
+                base.getCircuitBreaker().setOnOpen(overlay.getCircuitBreaker().getOnOpen());
+            }
+            if (overlay.getCircuitBreaker().getProbeIntervalMs() != 2000) {
+                base.getCircuitBreaker().setProbeIntervalMs(overlay.getCircuitBreaker().getProbeIntervalMs());
+            }
+        }
+        if (overlay.getTimeouts() != null) {
+            if (overlay.getTimeouts().getConnectMs() != 5000) {
+                base.getTimeouts().setConnectMs(overlay.getTimeouts().getConnectMs());
+            }
+            if (overlay.getTimeouts().getReadMs() != 20000) {
+                base.getTimeouts().setReadMs(overlay.getTimeouts().getReadMs());
+            }
+            if (overlay.getTimeouts().getTestBudgetMs() != 300000) {
+                base.getTimeouts().setTestBudgetMs(overlay.getTimeouts().getTestBudgetMs());
+            }
+            if (overlay.getTimeouts().getEndpoints() != null && !overlay.getTimeouts().getEndpoints().isEmpty()) {
+                var endpoints = new LinkedHashMap<>(base.getTimeouts().getEndpoints());
+                endpoints.putAll(overlay.getTimeouts().getEndpoints());
+                base.getTimeouts().setEndpoints(endpoints);
+            }
+        }
+        if (overlay.getAsync() != null && !overlay.getAsync().isHttp2()) {
+            base.getAsync().setHttp2(false);
+        }
+        if (overlay.getUserPool() != null) {
+            if (overlay.getUserPool().getSize() != 4) {
+                base.getUserPool().setSize(overlay.getUserPool().getSize());
+            }
+            if (overlay.getUserPool().getRefillConcurrency() != 4) {
+                base.getUserPool().setRefillConcurrency(overlay.getUserPool().getRefillConcurrency());
+            }
+            if (overlay.getUserPool().getLeaseTimeoutMs() != 60000) {
+                base.getUserPool().setLeaseTimeoutMs(overlay.getUserPool().getLeaseTimeoutMs());
+            }
         }
     }
 
@@ -108,6 +252,21 @@ public final class ConfigurationManager {
             config.getAuth().setEnabled(Boolean.parseBoolean(authEnabled));
         }
 
+        String backgroundRefresh = System.getProperty("auth.backgroundRefresh");
+        if (backgroundRefresh != null) {
+            config.getAuth().setBackgroundRefresh(Boolean.parseBoolean(backgroundRefresh));
+        }
+
+        String persistentCache = System.getProperty("auth.persistentCache");
+        if (persistentCache != null) {
+            config.getAuth().setPersistentCache(Boolean.parseBoolean(persistentCache));
+        }
+
+        String persistentCacheFile = System.getProperty("auth.persistentCacheFile");
+        if (persistentCacheFile != null) {
+            config.getAuth().setPersistentCacheFile(persistentCacheFile);
+        }
+
         String parallel = System.getProperty("parallel");
         if (parallel != null) {
             config.getExecution().setParallel(parallel);
@@ -118,6 +277,61 @@ public final class ConfigurationManager {
             config.getExecution().setThreadCount(Integer.parseInt(threadCount));
         }
 
+        String executionMode = System.getProperty("execution.mode");
+        if (executionMode != null) {
+            config.getExecution().setMode(executionMode);
+        }
+
+        String virtualConcurrency = System.getProperty("execution.virtualConcurrency");
+        if (virtualConcurrency != null) {
+            config.getExecution().setVirtualConcurrency(Integer.parseInt(virtualConcurrency));
+        }
+
+        String orderByDuration = System.getProperty("execution.orderByDuration");
+        if (orderByDuration != null) {
+            config.getExecution().setOrderByDuration(Boolean.parseBoolean(orderByDuration));
+        }
+
+        String durationHistoryFile = System.getProperty("execution.durationHistoryFile");
+        if (durationHistoryFile != null) {
+            config.getExecution().setDurationHistoryFile(durationHistoryFile);
+        }
+
+        String retryMaxAttempts = System.getProperty("retry.maxAttempts");
+        if (retryMaxAttempts != null) {
+            config.getRetry().setMaxAttempts(Integer.parseInt(retryMaxAttempts));
+        }
+
+        String retryBackoffMs = System.getProperty("retry.backoffMs");
+        if (retryBackoffMs != null) {
+            config.getRetry().setBackoffMs(Long.parseLong(retryBackoffMs));
+        }
+
+        String retryMaxBackoffMs = System.getProperty("retry.maxBackoffMs");
+        if (retryMaxBackoffMs != null) {
+            config.getRetry().setMaxBackoffMs(Long.parseLong(retryMaxBackoffMs));
+        }
+
+        String retryBudget = System.getProperty("retry.budget");
+        if (retryBudget != null) {
+            config.getRetry().setBudget(Integer.parseInt(retryBudget));
+        }
+
+        String cleanupConcurrency = System.getProperty("cleanup.concurrency");
+        if (cleanupConcurrency != null) {
+            config.getCleanup().setConcurrency(Integer.parseInt(cleanupConcurrency));
+        }
+
+        String cleanupBatchSize = System.getProperty("cleanup.batchSize");
+        if (cleanupBatchSize != null) {
+            config.getCleanup().setBatchSize(Integer.parseInt(cleanupBatchSize));
+        }
+
+        String cleanupStrategy = System.getProperty("cleanup.strategy");
+        if (cleanupStrategy != null) {
+            config.getCleanup().setStrategy(cleanupStrategy);
+        }
+
         String mailpitTimeout = System.getProperty("mailpit.timeout");
         if (mailpitTimeout != null) {
             config.getMailpit().setTimeoutSeconds(Integer.parseInt(mailpitTimeout));
@@ -127,6 +341,136 @@ public final class ConfigurationManager {
         if (mailpitPollInterval != null) {
             config.getMailpit().setPollIntervalMs(Long.parseLong(mailpitPollInterval));
         }
+
+        String mailpitEvents = System.getProperty("mailpit.events");
+        if (mailpitEvents != null) {
+            config.getMailpit().setEventsEnabled(Boolean.parseBoolean(mailpitEvents));
+        }
+
+        String poolMaxTotal = System.getProperty("pool.maxTotal");
+        if (poolMaxTotal != null) {
+            config.getConnectionPool().setMaxTotal(Integer.parseInt(poolMaxTotal));
+        }
+
+        String poolMaxPerRoute = System.getProperty("pool.maxPerRoute");
+        if (poolMaxPerRoute != null) {
+            config.getConnectionPool().setMaxPerRoute(Integer.parseInt(poolMaxPerRoute));
+        }
+
+        String poolIdleTimeoutMs = System.getProperty("pool.idleTimeoutMs");
+        if (poolIdleTimeoutMs != null) {
+            config.getConnectionPool().setIdleTimeoutMs(Long.parseLong(poolIdleTimeoutMs));
+        }
+
+        String poolEvictionIntervalMs = System.getProperty("pool.evictionIntervalMs");
+        if (poolEvictionIntervalMs != null) {
+            config.getConnectionPool().setEvictionIntervalMs(Long.parseLong(poolEvictionIntervalMs));
+        }
+
+        String rateScale = System.getProperty("performance.rateScale");
+        if (rateScale != null) {
+            config.getPerformance().setRateScale(Double.parseDouble(rateScale));
+        }
+
+        String maxInFlight = System.getProperty("performance.maxInFlight");
+        if (maxInFlight != null) {
+            config.getPerformance().setMaxInFlight(Integer.parseInt(maxInFlight));
+        }
+
+        String metricsEnabled = System.getProperty("metrics.enabled");
+        if (metricsEnabled != null) {
+            config.getMetrics().setEnabled(Boolean.parseBoolean(metricsEnabled));
+        }
+
+        String metricsOutputFile = System.getProperty("metrics.outputFile");
+        if (metricsOutputFile != null) {
+            config.getMetrics().setOutputFile(metricsOutputFile);
+        }
+
+        String traceCapacity = System.getProperty("httpTrace.capacity");
+        if (traceCapacity != null) {
+            config.getHttpTrace().setCapacity(Integer.parseInt(traceCapacity));
+        }
+
+        String traceMaxBodyChars = System.getProperty("httpTrace.maxBodyChars");
+        if (traceMaxBodyChars != null) {
+            config.getHttpTrace().setMaxBodyChars(Integer.parseInt(traceMaxBodyChars));
+        }
+
+        String shardIndex = System.getProperty("shard.index");
+        if (shardIndex != null) {
+            config.getShard().setIndex(Integer.parseInt(shardIndex));
+        }
+
+        String shardTotal = System.getProperty("shard.total");
+        if (shardTotal != null) {
+            config.getShard().setTotal(Integer.parseInt(shardTotal));
+        }
+
+        String shardHistoryFile = System.getProperty("shard.historyFile");
+        if (shardHistoryFile != null) {
+            config.getShard().setHistoryFile(shardHistoryFile);
+        }
+
+        String breakerEnabled = System.getProperty("circuitBreaker.enabled");
+        if (breakerEnabled != null) {
+            config.getCircuitBreaker().setEnabled(Boolean.parseBoolean(breakerEnabled));
+        }
+
+        String breakerThreshold = System.getProperty("circuitBreaker.failureThreshold");
+        if (breakerThreshold != null) {
+            config.getCircuitBreaker().setFailureThreshold(Integer.parseInt(breakerThreshold));
+        }
+
+        String breakerPerHost = System.getProperty("circuitBreaker.perHost");
+        if (breakerPerHost != null) {
+            config.getCircuitBreaker().setPerHost(Boolean.parseBoolean(breakerPerHost));
+        }
+
+        String breakerOnOpen = System.getProperty("circuitBreaker.onOpen");
+        if (breakerOnOpen != null) {
+            config.getCircuitBreaker().setOnOpen(breakerOnOpen);
+        }
+
+        String breakerProbeInterval = System.getProperty("circuitBreaker.probeIntervalMs");
+        if (breakerProbeInterval != null) {
+            config.getCircuitBreaker().setProbeIntervalMs(Long.parseLong(breakerProbeInterval));
+        }
+
+        String connectTimeout = System.getProperty("timeouts.connectMs");
+        if (connectTimeout != null) {
+            config.getTimeouts().setConnectMs(Long.parseLong(connectTimeout));
+        }
+
+        String readTimeout = System.getProperty("timeouts.readMs");
+        if (readTimeout != null) {
+            config.getTimeouts().setReadMs(Long.parseLong(readTimeout));
+        }
+
+        String testBudget = System.getProperty("timeouts.testBudgetMs");
+        if (testBudget != null) {
+            config.getTimeouts().setTestBudgetMs(Long.parseLong(testBudget));
+        }
+
+        String asyncHttp2 = System.getProperty("async.http2");
+        if (asyncHttp2 != null) {
+            config.getAsync().setHttp2(Boolean.parseBoolean(asyncHttp2));
+        }
+
+        String poolSize = System.getProperty("userPool.size");
+        if (poolSize != null) {
+            config.getUserPool().setSize(Integer.parseInt(poolSize));
+        }
+
+        String poolRefillConcurrency = System.getProperty("userPool.refillConcurrency");
+        if (poolRefillConcurrency != null) {
+            config.getUserPool().setRefillConcurrency(Integer.parseInt(poolRefillConcurrency));
+        }
+
+        String poolLeaseTimeout = System.getProperty("userPool.leaseTimeoutMs");
+        if (poolLeaseTimeout != null) {
+            config.getUserPool().setLeaseTimeoutMs(Long.parseLong(poolLeaseTimeout));
+        }
     }
 
     static void reset() {
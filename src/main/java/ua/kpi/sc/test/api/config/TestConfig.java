@@ -18,6 +18,15 @@ public class TestConfig {
     private RetryConfig retry = new RetryConfig();
     private CleanupConfig cleanup = new CleanupConfig();
     private MailpitConfig mailpit = new MailpitConfig();
+    private ConnectionPoolConfig connectionPool = new ConnectionPoolConfig();
+    private PerformanceConfig performance = new PerformanceConfig();
+    private MetricsConfig metrics = new MetricsConfig();
+    private HttpTraceConfig httpTrace = new HttpTraceConfig();
+    private ShardConfig shard = new ShardConfig();
+    private CircuitBreakerConfig circuitBreaker = new CircuitBreakerConfig();
+    private TimeoutsConfig timeouts = new TimeoutsConfig();
+    private AsyncConfig async = new AsyncConfig();
+    private UserPoolConfig userPool = new UserPoolConfig();
 
     @Data
     @NoArgsConstructor
@@ -26,6 +35,10 @@ public class TestConfig {
         private String parallel = "none";
         private int threadCount = 1;
         private String groups = "";
+        private String mode = "platform";
+        private int virtualConcurrency = 200;
+        private boolean orderByDuration = true;
+        private String durationHistoryFile = "build/test-durations.json";
     }
 
     @Data
@@ -36,6 +49,10 @@ public class TestConfig {
         private String tokenEndpoint = "/api/v1/auth/login";
         private String refreshEndpoint = "/api/v1/auth/refresh";
         private Map<String, TierCredentials> tierCredentials = Map.of();
+        private boolean backgroundRefresh = true;
+        private long refreshAheadSeconds = 120;
+        private boolean persistentCache = false;
+        private String persistentCacheFile = "build/auth-token-cache.json";
     }
 
     @Data
@@ -52,6 +69,8 @@ public class TestConfig {
     public static class RetryConfig {
         private int maxAttempts = 0;
         private long backoffMs = 1000;
+        private long maxBackoffMs = 30000;
+        private int budget = 20;
     }
 
     @Data
@@ -60,6 +79,8 @@ public class TestConfig {
     public static class CleanupConfig {
         private boolean enabled = true;
         private String strategy = "after_suite";
+        private int concurrency = 8;
+        private int batchSize = 50;
     }
 
     @Data
@@ -69,5 +90,95 @@ public class TestConfig {
         private String baseUrl = "http://localhost:8025";
         private int timeoutSeconds = 15;
         private long pollIntervalMs = 1000;
+        private boolean eventsEnabled = true;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class ConnectionPoolConfig {
+        private int maxTotal = 50;
+        private int maxPerRoute = 20;
+        private long idleTimeoutMs = 30000;
+        private long evictionIntervalMs = 5000;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class PerformanceConfig {
+        private double rateScale = 1.0;
+        private int maxInFlight = 500;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class MetricsConfig {
+        private boolean enabled = true;
+        private String outputFile = "build/endpoint-metrics.json";
+    }
+
+    @Data
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class HttpTraceConfig {
+        private int capacity = 32;
+        private int maxBodyChars = 4096;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class ShardConfig {
+        private int index = 1;
+        private int total = 1;
+        private String historyFile;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class CircuitBreakerConfig {
+        private boolean enabled = true;
+        private int failureThreshold = 5;
+        private boolean perHost = true;
+        private String onOpen = "fail";
+        private long probeIntervalMs = 2000;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class TimeoutsConfig {
+        private long connectMs = 5000;
+        private long readMs = 20000;
+        private long testBudgetMs = 300000;
+        private Map<String, EndpointTimeouts> endpoints = Map.of();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class EndpointTimeouts {
+        private long connectMs;
+        private long readMs;
+        private long totalMs;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class AsyncConfig {
+        private boolean http2 = true;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class UserPoolConfig {
+        private int size = 4;
+        private int refillConcurrency = 4;
+        private long leaseTimeoutMs = 60000;
     }
 }
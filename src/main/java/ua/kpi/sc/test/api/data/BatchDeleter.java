@@ -0,0 +1,121 @@
+package ua.kpi.sc.test.api.data;
+
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ua.kpi.sc.test.api.auth.AuthContext;
+import ua.kpi.sc.test.api.auth.AuthManager;
+import ua.kpi.sc.test.api.client.club.ClubClient;
+import ua.kpi.sc.test.api.client.document.DocumentClient;
+import ua.kpi.sc.test.api.client.project.ProjectClient;
+import ua.kpi.sc.test.api.client.user.UserClient;
+import ua.kpi.sc.test.api.config.Config;
+import ua.kpi.sc.test.api.config.TestConfig;
+import ua.kpi.sc.test.api.exception.CleanupException;
+import ua.kpi.sc.test.api.model.enums.CapabilityTier;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Deletes batches of resources of one {@link ResourceType} with the ADMIN tier token.
+ * <p>
+ * The API has no bulk-delete endpoints yet, so every type uses pipelined single deletes:
+ * the whole batch is in flight at once, bounded by the executor. A type gaining a bulk
+ * endpoint only needs its own {@link Strategy} here. 404 counts as success, since a test
+ * may already have deleted the resource itself.
+ */
+final class BatchDeleter {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchDeleter.class);
+    private static final Map<ResourceType, Strategy> strategies = new EnumMap<>(ResourceType.class);
+
+    static {
+        var userClient = new UserClient();
+        var clubClient = new ClubClient();
+        var projectClient = new ProjectClient();
+        var documentClient = new DocumentClient();
+        strategies.put(ResourceType.USER, pipelined(userClient::deleteUser));
+        strategies.put(ResourceType.CLUB, pipelined(clubClient::deleteClub));
+        strategies.put(ResourceType.PROJECT, pipelined(projectClient::deleteProject));
+        strategies.put(ResourceType.DOCUMENT, pipelined(documentClient::deleteDocument));
+    }
+
+    private BatchDeleter() {}
+
+    static boolean supports(ResourceType type) {
+        return strategies.containsKey(type);
+    }
+
+    static List<CleanupException.CleanupFailure> delete(ResourceType type, List<PendingDeletion> batch,
+                                                       String adminToken, ExecutorService executor) {
+        log.debug("Deleting batch of {} {} resources", batch.size(), type);
+        return strategies.get(type).delete(batch, adminToken, executor);
+    }
+
+    /**
+     * Token used for all batched deletions, or {@code null} when auth is off or no ADMIN tier is configured.
+     */
+    static String adminToken() {
+        if (!Config.isAuthEnabled()) {
+            return null;
+        }
+        Map<String, TestConfig.TierCredentials> tiers = Config.auth().getTierCredentials();
+        TestConfig.TierCredentials admin = tiers != null ? tiers.get(CapabilityTier.ADMIN.name()) : null;
+        if (admin == null) {
+            return null;
+        }
+        return AuthManager.getToken(AuthContext.forTier(CapabilityTier.ADMIN.name(),
+                admin.getEmail(), admin.getPassword()));
+    }
+
+    private static Strategy pipelined(DeleteCall call) {
+        return (batch, adminToken, executor) -> {
+            List<CompletableFuture<CleanupException.CleanupFailure>> inFlight = new ArrayList<>(batch.size());
+            for (PendingDeletion deletion : batch) {
+                inFlight.add(CompletableFuture.supplyAsync(() -> deleteOne(call, deletion, adminToken), executor));
+            }
+            return inFlight.stream()
+                    .map(CompletableFuture::join)
+                    .filter(Objects::nonNull)
+                    .toList();
+        };
+    }
+
+    private static CleanupException.CleanupFailure deleteOne(DeleteCall call, PendingDeletion deletion,
+                                                            String adminToken) {
+        try {
+            Response response = call.delete(deletion.id(), adminToken);
+            int status = response.getStatusCode();
+            if (status / 100 == 2 || status == 404) {
+                return null;
+            }
+            return new CleanupException.CleanupFailure(deletion.description(),
+                    new IllegalStateException("DELETE returned HTTP " + status + ": " + response.getBody().asString()));
+        } catch (Exception e) {
+            return new CleanupException.CleanupFailure(deletion.description(), e);
+        }
+    }
+
+    @FunctionalInterface
+    interface DeleteCall {
+        Response delete(String id, String authToken);
+    }
+
+    @FunctionalInterface
+    interface Strategy {
+        List<CleanupException.CleanupFailure> delete(List<PendingDeletion> batch, String adminToken,
+                                                     ExecutorService executor);
+    }
+
+    record PendingDeletion(CleanupRegistry.CleanupHandle handle, String id, String description, String owner) {
+        ResourceType type() {
+            return handle.type();
+        }
+    }
+}
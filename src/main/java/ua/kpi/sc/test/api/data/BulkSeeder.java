@@ -0,0 +1,124 @@
+package ua.kpi.sc.test.api.data;
+
+import io.qameta.allure.Allure;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tools.jackson.databind.JsonNode;
+import ua.kpi.sc.test.api.client.RequestSpecCache;
+import ua.kpi.sc.test.api.exception.ApiResponseException;
+import ua.kpi.sc.test.api.util.JsonHelper;
+import ua.kpi.sc.test.api.util.ResponseBody;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Creates many resources of one type through asynchronous requests, at most {@code concurrency} in flight.
+ * <p>
+ * Requests are submitted from the calling thread, which only waits for a free slot, so no thread is held per
+ * request. Per-request Allure and trace output is suppressed as for other bulk traffic; the whole batch is one
+ * Allure step instead. Every created resource is registered for deletion in one go, also when part of the
+ * batch failed; after the first failure no further requests are sent and that failure is thrown.
+ */
+final class BulkSeeder {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkSeeder.class);
+
+    private BulkSeeder() {}
+
+    static <Q, T> List<T> seed(ResourceType type, String path, List<Q> requests, int concurrency,
+                               Function<Q, CompletableFuture<Response>> call, Class<T> resultType) {
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+        int limit = Math.max(1, Math.min(concurrency, requests.size()));
+        String typeName = type.name().toLowerCase(Locale.ROOT);
+        String name = "Seed " + requests.size() + " " + typeName + " (concurrency " + limit + ")";
+        // Background callers such as the UserPool producer have no Allure test to attach the step to
+        if (Allure.getLifecycle().getCurrentTestCaseOrStep().isEmpty()) {
+            return run(type, typeName, path, requests, limit, call, resultType);
+        }
+        return Allure.step(name, () -> run(type, typeName, path, requests, limit, call, resultType));
+    }
+
+    private static <Q, T> List<T> run(ResourceType type, String typeName, String path, List<Q> requests, int limit,
+                                      Function<Q, CompletableFuture<Response>> call, Class<T> resultType) {
+        long start = System.nanoTime();
+        List<CompletableFuture<Response>> inFlight = submit(requests, limit, call);
+
+        List<T> created = new ArrayList<>(inFlight.size());
+        List<String> ids = new ArrayList<>(inFlight.size());
+        RuntimeException failure = null;
+        for (int i = 0; i < inFlight.size(); i++) {
+            try {
+                Response response = inFlight.get(i).join();
+                if (response.getStatusCode() / 100 != 2) {
+                    throw new ApiResponseException("POST", path, response.getStatusCode(),
+                            JsonHelper.toJson(requests.get(i)), response.asString());
+                }
+                JsonNode tree = ResponseBody.of(response).tree();
+                JsonNode id = tree.path("id");
+                if (id.isValueNode()) {
+                    ids.add(id.asString());
+                }
+                created.add(JsonHelper.objectMapper().treeToValue(tree, resultType));
+            } catch (RuntimeException e) {
+                RuntimeException cause = e instanceof CompletionException && e.getCause() instanceof RuntimeException r
+                        ? r : e;
+                if (failure == null) {
+                    failure = cause;
+                } else if (failure != cause) {
+                    failure.addSuppressed(cause);
+                }
+            }
+        }
+
+        CleanupRegistry.registerDeletions(type, ids, "Delete seeded " + typeName);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        log.info("Seeded {} of {} {} in {} ms (concurrency {})",
+                created.size(), requests.size(), type, elapsedMs, limit);
+        if (failure != null) {
+            throw failure;
+        }
+        return created;
+    }
+
+    private static <Q> List<CompletableFuture<Response>> submit(List<Q> requests, int limit,
+                                                                Function<Q, CompletableFuture<Response>> call) {
+        Semaphore slots = new Semaphore(limit);
+        AtomicBoolean failed = new AtomicBoolean();
+        List<CompletableFuture<Response>> inFlight = new ArrayList<>(requests.size());
+        RequestSpecCache.withoutReporting(() -> {
+            for (Q request : requests) {
+                slots.acquireUninterruptibly();
+                if (failed.get()) {
+                    slots.release();
+                    break;
+                }
+                CompletableFuture<Response> future;
+                try {
+                    future = call.apply(request);
+                } catch (RuntimeException e) {
+                    future = CompletableFuture.failedFuture(e);
+                }
+                future.whenComplete((response, error) -> {
+                    if (error != null || response.getStatusCode() / 100 != 2) {
+                        failed.set(true);
+                    }
+                    slots.release();
+                });
+                inFlight.add(future);
+            }
+            return null;
+        });
+        return inFlight;
+    }
+}
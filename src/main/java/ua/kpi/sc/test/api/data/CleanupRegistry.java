@@ -2,56 +2,363 @@ package ua.kpi.sc.test.api.data;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+import ua.kpi.sc.test.api.config.Config;
 import ua.kpi.sc.test.api.exception.CleanupException;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 
+/**
+ * Collects cleanup work during the run and executes it.
+ * <p>
+ * Custom actions may reference a parent registered earlier, either another action or a deletion; a parent
+ * runs only after all of its children have finished (e.g. project members before the project, partner
+ * levels before the user). Unrelated actions run in parallel on a pool of {@code cleanup.concurrency} threads.
+ * <p>
+ * Plain resource deletions registered with {@link #registerDeletion} are grouped by
+ * {@link ResourceType} and flushed in batches of {@code cleanup.batchSize}, type by type in
+ * declaration order, after the custom actions flushed with them. Actions and deletions are owned by the
+ * test class that registered them: with {@code cleanup.strategy} {@code per_class} or {@code streaming}
+ * a class's cleanup is flushed when that class finishes (blocking, or in the background), so teardown
+ * overlaps with the rest of the run. A parent whose children are not all flushed with it is left for
+ * suite end. All failures are reported in one {@link CleanupException}.
+ */
 public final class CleanupRegistry {
 
     private static final Logger log = LoggerFactory.getLogger(CleanupRegistry.class);
     private static final ConcurrentLinkedDeque<CleanupAction> actions = new ConcurrentLinkedDeque<>();
+    private static final ConcurrentLinkedQueue<BatchDeleter.PendingDeletion> deletions = new ConcurrentLinkedQueue<>();
+    private static final AtomicLong sequence = new AtomicLong();
+    private static final List<CompletableFuture<Void>> backgroundFlushes = new CopyOnWriteArrayList<>();
+    private static final List<CleanupException.CleanupFailure> failures = Collections.synchronizedList(new ArrayList<>());
+    private static final Map<ResourceType, TypeStats> stats = new ConcurrentHashMap<>();
+    private static final AtomicInteger executed = new AtomicInteger();
+    private static volatile ExecutorService deletePool;
+    private static volatile ExecutorService streamer;
 
     private CleanupRegistry() {}
 
-    public static void register(String description, Runnable action) {
-        actions.push(new CleanupAction(description, action));
-        log.debug("Registered cleanup action: {}", description);
+    public static CleanupHandle register(String description, Runnable action) {
+        return register(ResourceType.OTHER, description, null, action);
+    }
+
+    public static CleanupHandle register(ResourceType type, String description, Runnable action) {
+        return register(type, description, null, action);
+    }
+
+    public static CleanupHandle register(ResourceType type, String description, CleanupHandle parent,
+                                         Runnable action) {
+        var handle = new CleanupHandle(sequence.incrementAndGet(), type);
+        actions.push(new CleanupAction(handle, description, parent, currentTestClass(), action));
+        log.debug("Registered cleanup action: {} [{}]", description, type);
+        return handle;
+    }
+
+    /**
+     * Registers a resource for batched deletion, owned by the test class running on this thread. Custom
+     * actions passing the returned handle as {@code parent} run before the resource is deleted.
+     */
+    public static CleanupHandle registerDeletion(ResourceType type, String id, String description) {
+        if (!BatchDeleter.supports(type)) {
+            throw new IllegalArgumentException("No delete endpoint for resource type " + type);
+        }
+        var handle = new CleanupHandle(sequence.incrementAndGet(), type);
+        deletions.add(new BatchDeleter.PendingDeletion(handle, id, description, currentTestClass()));
+        log.debug("Registered deletion: {} [{}]", description, type);
+        return handle;
+    }
+
+    /**
+     * {@link #registerDeletion} for many resources of one type at once, e.g. from bulk seeding.
+     */
+    public static void registerDeletions(ResourceType type, List<String> ids, String description) {
+        if (!BatchDeleter.supports(type)) {
+            throw new IllegalArgumentException("No delete endpoint for resource type " + type);
+        }
+        String owner = currentTestClass();
+        deletions.addAll(ids.stream()
+                .map(id -> new BatchDeleter.PendingDeletion(new CleanupHandle(sequence.incrementAndGet(), type),
+                        id, description + ": " + id, owner))
+                .toList());
+        log.debug("Registered {} deletions [{}]", ids.size(), type);
+    }
+
+    /**
+     * Runs the custom actions, then the deletions, registered by the test class.
+     */
+    public static void flushClass(String testClass) {
+        runActions(drainActions(action -> testClass.equals(action.owner())));
+        Set<Long> held = pendingParents();
+        deleteAll(drain(deletion -> testClass.equals(deletion.owner()) && !held.contains(deletion.handle().id())));
+    }
+
+    public static void flushClassInBackground(String testClass) {
+        backgroundFlushes.add(CompletableFuture.runAsync(() -> flushClass(testClass), streamer()));
     }
 
     public static void executeAll() {
-        int total = actions.size();
-        log.info("Executing {} cleanup actions (LIFO order)", total);
-        int success = 0;
-        List<CleanupException.CleanupFailure> failures = new ArrayList<>();
-
-        while (!actions.isEmpty()) {
-            CleanupAction action = actions.poll();
-            try {
-                log.debug("Executing cleanup: {}", action.description());
-                action.action().run();
-                success++;
-            } catch (Exception e) {
-                log.error("Cleanup action failed: {}", action.description(), e);
-                failures.add(new CleanupException.CleanupFailure(action.description(), e));
+        long startNanos = System.nanoTime();
+        try {
+            CompletableFuture.allOf(backgroundFlushes.toArray(CompletableFuture[]::new)).join();
+            backgroundFlushes.clear();
+            runActions(drainActions(action -> true));
+            deleteAll(drain(deletion -> true));
+        } finally {
+            shutdownPools();
+        }
+
+        int total = executed.getAndSet(0);
+        List<CleanupException.CleanupFailure> failed;
+        synchronized (failures) {
+            failed = new ArrayList<>(failures);
+            failures.clear();
+        }
+        logSummary(total, failed.size(), elapsedMs(startNanos));
+        stats.clear();
+
+        if (!failed.isEmpty()) {
+            throw new CleanupException(total, failed.size(), failed);
+        }
+    }
+
+    /**
+     * Removes the selected actions, newest first, except parents with a child that stays registered.
+     */
+    private static List<CleanupAction> drainActions(Predicate<CleanupAction> filter) {
+        List<CleanupAction> drained = new ArrayList<>();
+        Set<Long> held = new HashSet<>();
+        // Newest first: children are always registered after their parent, so they are seen before it
+        for (Iterator<CleanupAction> it = actions.iterator(); it.hasNext(); ) {
+            CleanupAction action = it.next();
+            if (filter.test(action) && !held.contains(action.handle().id())) {
+                it.remove();
+                drained.add(action);
+            } else if (action.parent() != null) {
+                held.add(action.parent().id());
             }
         }
+        return drained;
+    }
 
-        log.info("Cleanup complete: {} succeeded, {} failed", success, failures.size());
+    private static Set<Long> pendingParents() {
+        Set<Long> parents = new HashSet<>();
+        for (CleanupAction action : actions) {
+            if (action.parent() != null) {
+                parents.add(action.parent().id());
+            }
+        }
+        return parents;
+    }
 
-        if (!failures.isEmpty()) {
-            throw new CleanupException(total, failures.size(), failures);
+    private static void runActions(List<CleanupAction> pending) {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        int concurrency = concurrency();
+        log.info("Executing {} cleanup actions (concurrency {})", pending.size(), concurrency);
+        Map<Long, List<CompletableFuture<Void>>> childrenByParent = new HashMap<>();
+        List<CompletableFuture<Void>> all = new ArrayList<>(pending.size());
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency, daemonThreads("cleanup-"));
+        try {
+            for (CleanupAction action : pending) {
+                List<CompletableFuture<Void>> children = childrenByParent.getOrDefault(action.handle().id(), List.of());
+                CompletableFuture<Void> future = CompletableFuture
+                        .allOf(children.toArray(CompletableFuture[]::new))
+                        .handle((ignored, childFailure) -> null)
+                        .thenRunAsync(() -> run(action), executor);
+                if (action.parent() != null) {
+                    childrenByParent.computeIfAbsent(action.parent().id(), id -> new ArrayList<>()).add(future);
+                }
+                all.add(future);
+            }
+            CompletableFuture.allOf(all.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void run(CleanupAction action) {
+        TypeStats typeStats = stats.computeIfAbsent(action.handle().type(), type -> new TypeStats());
+        long start = System.nanoTime();
+        try {
+            log.debug("Executing cleanup: {}", action.description());
+            action.action().run();
+        } catch (Exception e) {
+            log.error("Cleanup action failed: {}", action.description(), e);
+            failures.add(new CleanupException.CleanupFailure(action.description(), e));
+            typeStats.failed.incrementAndGet();
+        } finally {
+            executed.incrementAndGet();
+            typeStats.count.incrementAndGet();
+            typeStats.nanos.addAndGet(System.nanoTime() - start);
         }
     }
 
+    private static List<BatchDeleter.PendingDeletion> drain(Predicate<BatchDeleter.PendingDeletion> filter) {
+        List<BatchDeleter.PendingDeletion> drained = new ArrayList<>();
+        for (Iterator<BatchDeleter.PendingDeletion> it = deletions.iterator(); it.hasNext(); ) {
+            BatchDeleter.PendingDeletion deletion = it.next();
+            if (filter.test(deletion)) {
+                it.remove();
+                drained.add(deletion);
+            }
+        }
+        return drained;
+    }
+
+    private static void deleteAll(List<BatchDeleter.PendingDeletion> pending) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        String adminToken;
+        try {
+            adminToken = BatchDeleter.adminToken();
+        } catch (RuntimeException e) {
+            log.error("Cannot authenticate for cleanup; {} deletions skipped", pending.size(), e);
+            failures.add(new CleanupException.CleanupFailure("Authenticate cleanup as ADMIN", e));
+            return;
+        }
+        if (adminToken == null) {
+            log.warn("Auth disabled or no ADMIN tier configured; skipping {} deletions", pending.size());
+            return;
+        }
+
+        Map<ResourceType, List<BatchDeleter.PendingDeletion>> byType = new EnumMap<>(ResourceType.class);
+        pending.forEach(deletion -> byType.computeIfAbsent(deletion.type(), type -> new ArrayList<>()).add(deletion));
+
+        int batchSize = Math.max(1, Config.cleanup().getBatchSize());
+        byType.forEach((type, group) -> {
+            TypeStats typeStats = stats.computeIfAbsent(type, t -> new TypeStats());
+            for (int from = 0; from < group.size(); from += batchSize) {
+                List<BatchDeleter.PendingDeletion> batch = group.subList(from, Math.min(from + batchSize, group.size()));
+                long start = System.nanoTime();
+                List<CleanupException.CleanupFailure> batchFailures =
+                        BatchDeleter.delete(type, batch, adminToken, deletePool());
+                batchFailures.forEach(failure ->
+                        log.error("Cleanup action failed: {}", failure.description(), failure.cause()));
+                failures.addAll(batchFailures);
+                executed.addAndGet(batch.size());
+                typeStats.count.addAndGet(batch.size());
+                typeStats.failed.addAndGet(batchFailures.size());
+                typeStats.nanos.addAndGet(System.nanoTime() - start);
+            }
+        });
+    }
+
+    private static void logSummary(int total, int failed, long wallMs) {
+        log.info("Cleanup complete in {} ms: {} succeeded, {} failed", wallMs, total - failed, failed);
+        // new EnumMap<>(Map) throws on an empty map that is not an EnumMap
+        Map<ResourceType, TypeStats> byType = new EnumMap<>(ResourceType.class);
+        byType.putAll(stats);
+        byType.forEach((type, typeStats) ->
+                log.info("  {}: {} actions, {} failed, {} ms cumulative",
+                        type, typeStats.count.get(), typeStats.failed.get(),
+                        TimeUnit.NANOSECONDS.toMillis(typeStats.nanos.get())));
+    }
+
+    private static String currentTestClass() {
+        ITestResult result = Reporter.getCurrentTestResult();
+        return result != null ? result.getTestClass().getName() : null;
+    }
+
+    private static int concurrency() {
+        return Math.max(1, Config.cleanup().getConcurrency());
+    }
+
+    private static ExecutorService deletePool() {
+        ExecutorService pool = deletePool;
+        if (pool == null) {
+            synchronized (CleanupRegistry.class) {
+                if (deletePool == null) {
+                    deletePool = Executors.newFixedThreadPool(concurrency(), daemonThreads("cleanup-delete-"));
+                }
+                pool = deletePool;
+            }
+        }
+        return pool;
+    }
+
+    private static ExecutorService streamer() {
+        ExecutorService executor = streamer;
+        if (executor == null) {
+            synchronized (CleanupRegistry.class) {
+                if (streamer == null) {
+                    streamer = Executors.newSingleThreadExecutor(daemonThreads("cleanup-streamer-"));
+                }
+                executor = streamer;
+            }
+        }
+        return executor;
+    }
+
+    private static synchronized void shutdownPools() {
+        if (deletePool != null) {
+            deletePool.shutdown();
+            deletePool = null;
+        }
+        if (streamer != null) {
+            streamer.shutdown();
+            streamer = null;
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
     public static int size() {
-        return actions.size();
+        return actions.size() + deletions.size();
     }
 
     public static void clear() {
         actions.clear();
+        deletions.clear();
     }
 
-    record CleanupAction(String description, Runnable action) {}
+    /**
+     * Reference to a registered cleanup action or deletion, passed as {@code parent} by actions that must
+     * run before it.
+     */
+    public record CleanupHandle(long id, ResourceType type) {}
+
+    record CleanupAction(CleanupHandle handle, String description, CleanupHandle parent, String owner,
+                         Runnable action) {}
+
+    private static final class TypeStats {
+        final AtomicInteger count = new AtomicInteger();
+        final AtomicInteger failed = new AtomicInteger();
+        final AtomicLong nanos = new AtomicLong();
+    }
 }
@@ -0,0 +1,19 @@
+package ua.kpi.sc.test.api.data;
+
+/**
+ * Kind of backend resource a cleanup action deletes.
+ * <p>
+ * Declared in deletion order: batched deletions are flushed type by type in this order,
+ * so dependent resources go before the resources they reference.
+ */
+public enum ResourceType {
+    PROJECT_MEMBER,
+    PROJECT,
+    CLUB_MEMBER,
+    CLUB,
+    DOCUMENT,
+    DEPARTMENT,
+    PARTNER_LEVEL,
+    USER,
+    OTHER
+}
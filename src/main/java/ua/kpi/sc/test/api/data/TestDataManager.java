@@ -4,12 +4,41 @@ import io.restassured.response.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ua.kpi.sc.test.api.client.auth.AuthClient;
+import ua.kpi.sc.test.api.client.club.ClubClient;
+import ua.kpi.sc.test.api.client.document.DocumentClient;
+import ua.kpi.sc.test.api.client.project.ProjectClient;
+import ua.kpi.sc.test.api.client.user.UserClient;
+import ua.kpi.sc.test.api.config.Endpoint;
 import ua.kpi.sc.test.api.model.auth.RegisterRequest;
+import ua.kpi.sc.test.api.model.club.ClubRequest;
+import ua.kpi.sc.test.api.model.club.ClubResponse;
+import ua.kpi.sc.test.api.model.document.DocumentRequest;
+import ua.kpi.sc.test.api.model.document.DocumentResponse;
+import ua.kpi.sc.test.api.model.project.ProjectRequest;
+import ua.kpi.sc.test.api.model.project.ProjectResponse;
+import ua.kpi.sc.test.api.model.user.CreateUserRequest;
+import ua.kpi.sc.test.api.model.user.UserResponse;
 
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Creates backend data for tests and registers it for cleanup.
+ * <p>
+ * The bulk methods ({@code registerUsers}, {@code createUsers}, {@code createClubs}, ...) send their requests
+ * concurrently, at most {@code concurrency} at a time, and return the created resources in request order.
+ * If any request fails, the resources created so far are still cleaned up and the first failure is thrown.
+ */
 public final class TestDataManager {
 
     private static final Logger log = LoggerFactory.getLogger(TestDataManager.class);
     private static final AuthClient authClient = new AuthClient();
+    private static final UserClient userClient = new UserClient();
+    private static final ClubClient clubClient = new ClubClient();
+    private static final ProjectClient projectClient = new ProjectClient();
+    private static final DocumentClient documentClient = new DocumentClient();
 
     private TestDataManager() {}
 
@@ -19,10 +48,7 @@ public final class TestDataManager {
         if (response.getStatusCode() == 201 || response.getStatusCode() == 200) {
             String userId = response.jsonPath().getString("id");
             if (userId != null) {
-                CleanupRegistry.register(
-                        "Delete user: " + request.getEmail(),
-                        () -> log.info("Would delete user {} (cleanup not yet implemented)", userId)
-                );
+                CleanupRegistry.registerDeletion(ResourceType.USER, userId, "Delete user: " + request.getEmail());
             }
         }
 
@@ -34,4 +60,85 @@ public final class TestDataManager {
         registerUserAndTrack(request);
         return request;
     }
+
+    /**
+     * Registers {@code count} random users through {@code /auth/register}.
+     */
+    public static List<UserResponse> registerUsers(int count, int concurrency) {
+        String batch = batchId();
+        return registerUsers(generate(count, i -> {
+            RegisterRequest request = TestDataFactory.validRegisterRequest();
+            request.setEmail(uniqueEmail(request.getEmail(), batch, i));
+            return request;
+        }), concurrency);
+    }
+
+    public static List<UserResponse> registerUsers(List<RegisterRequest> requests, int concurrency) {
+        return BulkSeeder.seed(ResourceType.USER, Endpoint.AUTH_REGISTER, requests, concurrency,
+                request -> authClient.async().post(Endpoint.AUTH_REGISTER, request), UserResponse.class);
+    }
+
+    /**
+     * Creates {@code count} random tier-1 users through the admin {@code POST /users}.
+     */
+    public static List<UserResponse> createUsers(int count, int concurrency, String authToken) {
+        String batch = batchId();
+        return createUsers(generate(count, i -> {
+            CreateUserRequest request = TestDataFactory.validCreateUserRequest();
+            request.setEmail(uniqueEmail(request.getEmail(), batch, i));
+            return request;
+        }), concurrency, authToken);
+    }
+
+    public static List<UserResponse> createUsers(List<CreateUserRequest> requests, int concurrency, String authToken) {
+        return BulkSeeder.seed(ResourceType.USER, Endpoint.USERS, requests, concurrency,
+                request -> userClient.async().post(Endpoint.USERS, request, authToken), UserResponse.class);
+    }
+
+    public static List<ClubResponse> createClubs(int count, int concurrency, String authToken) {
+        return createClubs(generate(count, TestDataFactory::validClubRequest), concurrency, authToken);
+    }
+
+    public static List<ClubResponse> createClubs(List<ClubRequest> requests, int concurrency, String authToken) {
+        return BulkSeeder.seed(ResourceType.CLUB, Endpoint.CLUBS, requests, concurrency,
+                request -> clubClient.async().post(Endpoint.CLUBS, request, authToken), ClubResponse.class);
+    }
+
+    public static List<ProjectResponse> createProjects(int count, int concurrency, String authToken) {
+        return createProjects(generate(count, TestDataFactory::validProjectRequest), concurrency, authToken);
+    }
+
+    public static List<ProjectResponse> createProjects(List<ProjectRequest> requests, int concurrency,
+                                                       String authToken) {
+        return BulkSeeder.seed(ResourceType.PROJECT, Endpoint.PROJECTS, requests, concurrency,
+                request -> projectClient.async().post(Endpoint.PROJECTS, request, authToken), ProjectResponse.class);
+    }
+
+    public static List<DocumentResponse> createDocuments(int count, int concurrency, String authToken) {
+        return createDocuments(generate(count, TestDataFactory::validDocumentRequest), concurrency, authToken);
+    }
+
+    public static List<DocumentResponse> createDocuments(List<DocumentRequest> requests, int concurrency,
+                                                         String authToken) {
+        return BulkSeeder.seed(ResourceType.DOCUMENT, Endpoint.DOCUMENTS, requests, concurrency,
+                request -> documentClient.async().post(Endpoint.DOCUMENTS, request, authToken),
+                DocumentResponse.class);
+    }
+
+    private static <Q> List<Q> generate(int count, Supplier<Q> factory) {
+        return generate(count, i -> factory.get());
+    }
+
+    private static <Q> List<Q> generate(int count, IntFunction<Q> factory) {
+        return IntStream.range(0, count).mapToObj(factory).toList();
+    }
+
+    private static String batchId() {
+        return Long.toString(System.currentTimeMillis(), 36);
+    }
+
+    // Random e-mails collide often enough over hundreds of users to fail a whole batch with 409
+    private static String uniqueEmail(String email, String batch, int index) {
+        return "seed" + batch + "." + index + "." + email;
+    }
 }
@@ -0,0 +1,386 @@
+package ua.kpi.sc.test.api.data;
+
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+import ua.kpi.sc.test.api.auth.AuthContext;
+import ua.kpi.sc.test.api.auth.AuthManager;
+import ua.kpi.sc.test.api.client.RequestSpecCache;
+import ua.kpi.sc.test.api.client.user.UserClient;
+import ua.kpi.sc.test.api.config.Config;
+import ua.kpi.sc.test.api.config.Endpoint;
+import ua.kpi.sc.test.api.exception.ApiResponseException;
+import ua.kpi.sc.test.api.exception.ConfigurationException;
+import ua.kpi.sc.test.api.exception.UserPoolException;
+import ua.kpi.sc.test.api.model.auth.RegisterRequest;
+import ua.kpi.sc.test.api.model.enums.CapabilityTier;
+import ua.kpi.sc.test.api.model.user.UpdateTierRequest;
+import ua.kpi.sc.test.api.model.user.UserResponse;
+import ua.kpi.sc.test.api.util.JsonHelper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Per-{@link CapabilityTier} pool of registered, logged-in users that tests lease exclusively.
+ * <p>
+ * A tier's pool starts with its first lease. From then on a background producer keeps {@code userPool.size}
+ * users ready, plus one for every test still waiting: it registers them in batches of up to
+ * {@code userPool.refillConcurrency}, sets their tier with the ADMIN token unless it is BASIC (the tier a
+ * registration gets), and logs them in through {@link AuthManager}, which also keeps their tokens fresh.
+ * <p>
+ * Every lease is its own {@link PooledUser} handle, so a handle whose lease has ended cannot return or discard
+ * the account again once another test holds it. A test returns its lease with {@link PooledUser#release()},
+ * or calls {@link PooledUser#markDirty()} when it changed the account (password, status, tier, logout, deletion)
+ * so the producer replaces it. Leases taken in a test method and not returned are released when the method
+ * passes and discarded when it does not.
+ * Pooled users are registered for deletion at suite end like other seeded data.
+ */
+public final class UserPool {
+
+    private static final Logger log = LoggerFactory.getLogger(UserPool.class);
+    private static final CapabilityTier REGISTERED_TIER = CapabilityTier.BASIC;
+    private static final long POLL_INTERVAL_MS = 200;
+    private static final String RUN_ID = Long.toString(System.currentTimeMillis(), 36);
+    private static final AtomicLong sequence = new AtomicLong();
+    private static final Map<CapabilityTier, TierPool> pools = new ConcurrentHashMap<>();
+    private static final ThreadLocal<List<PooledUser>> invocationLeases = ThreadLocal.withInitial(ArrayList::new);
+    private static final UserClient userClient = new UserClient();
+    private static volatile ExecutorService producer;
+
+    private UserPool() {}
+
+    /**
+     * Takes a ready user of {@code tier}, waiting up to {@code userPool.leaseTimeoutMs} for the producer.
+     */
+    public static PooledUser lease(CapabilityTier tier) {
+        TierPool pool = pools.computeIfAbsent(tier, TierPool::new);
+        Account account = pool.ready.poll();
+        if (account == null) {
+            account = await(pool);
+        }
+        requestRefill(pool);
+
+        ITestResult result = Reporter.getCurrentTestResult();
+        boolean held = result != null && result.getMethod().isTest();
+        var user = new PooledUser(account, held);
+        if (held) {
+            invocationLeases.get().add(user);
+        }
+        log.debug("Leased pooled {} user {}", tier, account.email());
+        return user;
+    }
+
+    /**
+     * Ends the leases the current test method still holds; called by {@code BaseApiTest} after each method.
+     * Leases the method already returned or discarded are no longer held and are left alone.
+     */
+    public static void returnLeases(boolean passed) {
+        List<PooledUser> leases = List.copyOf(invocationLeases.get());
+        invocationLeases.get().clear();
+        for (PooledUser user : leases) {
+            if (passed) {
+                user.release();
+            } else {
+                user.markDirty();
+            }
+        }
+    }
+
+    /**
+     * Stops the producer and forgets all ready users; they are still deleted by the suite-end cleanup.
+     * <p>
+     * A refill in progress does not react to interrupts, so this waits up to {@code userPool.leaseTimeoutMs}
+     * for it to finish; the users it registers are then known to the cleanup that follows.
+     */
+    public static void shutdown() {
+        ExecutorService executor;
+        synchronized (UserPool.class) {
+            executor = producer;
+            producer = null;
+            pools.forEach((tier, pool) ->
+                    log.info("User pool {}: {} users provisioned, {} ready at shutdown",
+                            tier, pool.provisioned.get(), pool.ready.size()));
+            // A running refill stops after its current batch once its pool is gone
+            pools.clear();
+        }
+        if (executor == null) {
+            return;
+        }
+        executor.shutdownNow();
+        long timeoutMs = Config.userPool().getLeaseTimeoutMs();
+        try {
+            if (!executor.awaitTermination(timeoutMs, TimeUnit.MILLISECONDS)) {
+                log.warn("User pool refill still running after {} ms; users it registers from now on are not deleted",
+                        timeoutMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Account await(TierPool pool) {
+        long timeoutMs = Config.userPool().getLeaseTimeoutMs();
+        long start = System.nanoTime();
+        pool.waiting.incrementAndGet();
+        try {
+            requestRefill(pool);
+            while (true) {
+                Account account = pool.ready.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (account != null) {
+                    return account;
+                }
+                RuntimeException failure = pool.failure.get();
+                long waitedMs = elapsedMs(start);
+                if (failure != null || waitedMs >= timeoutMs) {
+                    throw new UserPoolException(pool.tier.name(), size(), waitedMs, failure);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UserPoolException(pool.tier.name(), size(), elapsedMs(start), null);
+        } finally {
+            pool.waiting.decrementAndGet();
+        }
+    }
+
+    private static void requestRefill(TierPool pool) {
+        if (pool.missing() > 0 && pool.refilling.compareAndSet(false, true)) {
+            // A new round retries after a failed one
+            pool.failure.set(null);
+            producer().execute(() -> refill(pool));
+        }
+    }
+
+    private static void refill(TierPool pool) {
+        try {
+            int missing;
+            while (pools.get(pool.tier) == pool && (missing = pool.missing()) > 0) {
+                provision(pool, Math.min(missing, Math.max(1, Config.userPool().getRefillConcurrency())));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Provisioning pooled {} users failed: {}", pool.tier, e.getMessage());
+            pool.failure.set(e);
+            return;
+        } finally {
+            pool.refilling.set(false);
+        }
+        // A lease may have arrived after the last check but before the flag was cleared
+        if (pools.get(pool.tier) == pool) {
+            requestRefill(pool);
+        }
+    }
+
+    private static void provision(TierPool pool, int count) {
+        String adminToken = pool.tier == REGISTERED_TIER
+                ? null : RequestSpecCache.withoutReporting(() -> adminToken(pool.tier));
+        List<RegisterRequest> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            RegisterRequest request = TestDataFactory.validRegisterRequest();
+            request.setEmail("pool" + RUN_ID + "." + sequence.incrementAndGet() + "." + request.getEmail());
+            requests.add(request);
+        }
+        List<UserResponse> registered = TestDataManager.registerUsers(requests, count);
+
+        List<Future<Account>> prepared = new ArrayList<>(count);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < registered.size(); i++) {
+                RegisterRequest request = requests.get(i);
+                String id = registered.get(i).getId();
+                prepared.add(executor.submit(() -> RequestSpecCache.withoutReporting(
+                        () -> prepare(pool.tier, id, request, adminToken))));
+            }
+        }
+
+        RuntimeException failure = null;
+        for (Future<Account> future : prepared) {
+            if (future.state() == Future.State.SUCCESS) {
+                pool.ready.add(future.resultNow());
+                pool.provisioned.incrementAndGet();
+            } else if (failure == null) {
+                Throwable cause = future.exceptionNow();
+                failure = cause instanceof RuntimeException runtime ? runtime : new IllegalStateException(cause);
+            }
+        }
+        log.debug("Provisioned {} pooled {} users, {} ready", count, pool.tier, pool.ready.size());
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static Account prepare(CapabilityTier tier, String id, RegisterRequest request, String adminToken) {
+        if (adminToken != null) {
+            UpdateTierRequest update = UpdateTierRequest.builder().tier(tier.getLevel()).build();
+            Response response = userClient.updateTier(id, update, adminToken);
+            if (response.getStatusCode() / 100 != 2) {
+                throw new ApiResponseException("PATCH", Endpoint.USERS + "/" + id + "/tier",
+                        response.getStatusCode(), JsonHelper.toJson(update), response.asString());
+            }
+        }
+        var account = new Account(tier, id, request.getEmail(), request.getPassword());
+        // Logs in now, so the lease hands out a cached token
+        AuthManager.getToken(account.authContext());
+        return account;
+    }
+
+    private static String adminToken(CapabilityTier tier) {
+        String token = BatchDeleter.adminToken();
+        if (token == null) {
+            throw new ConfigurationException("Pooled " + tier + " users need auth enabled and ADMIN tier credentials");
+        }
+        return token;
+    }
+
+    private static int size() {
+        return Math.max(0, Config.userPool().getSize());
+    }
+
+    private static ExecutorService producer() {
+        ExecutorService executor = producer;
+        if (executor == null) {
+            synchronized (UserPool.class) {
+                if (producer == null) {
+                    producer = Executors.newSingleThreadExecutor(runnable -> {
+                        Thread thread = new Thread(runnable, "user-pool-refill");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                }
+                executor = producer;
+            }
+        }
+        return executor;
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * A registered, logged-in account; in the ready queue or held by exactly one lease.
+     */
+    private record Account(CapabilityTier tier, String id, String email, String password) {
+        AuthContext authContext() {
+            return AuthContext.forPooledUser(tier.name(), email, password);
+        }
+    }
+
+    /**
+     * One lease of a pooled account; it ends once, by {@link #release()} or {@link #markDirty()}, and later
+     * calls on it do nothing.
+     */
+    public static final class PooledUser implements AutoCloseable {
+        private final Account account;
+        private final boolean held;
+        private final AtomicBoolean ended = new AtomicBoolean();
+
+        private PooledUser(Account account, boolean held) {
+            this.account = account;
+            this.held = held;
+        }
+
+        public CapabilityTier tier() {
+            return account.tier();
+        }
+
+        public String id() {
+            return account.id();
+        }
+
+        public String email() {
+            return account.email();
+        }
+
+        public String password() {
+            return account.password();
+        }
+
+        public AuthContext authContext() {
+            return account.authContext();
+        }
+
+        public String token() {
+            return AuthManager.getToken(authContext());
+        }
+
+        /**
+         * Returns the account to the pool for the next lease.
+         */
+        public void release() {
+            if (!end()) {
+                return;
+            }
+            TierPool pool = pools.get(account.tier());
+            if (pool != null) {
+                pool.ready.add(account);
+                log.debug("Returned pooled {} user {}", account.tier(), account.email());
+            }
+        }
+
+        /**
+         * Takes the account out of the pool for good, dropping its cached token and scheduled refresh;
+         * the producer provisions a replacement.
+         */
+        public void markDirty() {
+            if (!end()) {
+                return;
+            }
+            AuthManager.evict(account.email());
+            log.debug("Discarded dirty pooled {} user {}", account.tier(), account.email());
+            TierPool pool = pools.get(account.tier());
+            if (pool != null) {
+                requestRefill(pool);
+            }
+        }
+
+        /**
+         * Releases a lease taken outside a test method. A test method's lease is left to
+         * {@link UserPool#returnLeases}, which knows whether the method failed, so a failure inside
+         * try-with-resources still discards the account.
+         */
+        @Override
+        public void close() {
+            if (!held) {
+                release();
+            }
+        }
+
+        private boolean end() {
+            if (!ended.compareAndSet(false, true)) {
+                return false;
+            }
+            invocationLeases.get().remove(this);
+            return true;
+        }
+    }
+
+    private static final class TierPool {
+        final CapabilityTier tier;
+        final LinkedBlockingQueue<Account> ready = new LinkedBlockingQueue<>();
+        final AtomicInteger waiting = new AtomicInteger();
+        final AtomicInteger provisioned = new AtomicInteger();
+        final AtomicBoolean refilling = new AtomicBoolean();
+        final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+        TierPool(CapabilityTier tier) {
+            this.tier = tier;
+        }
+
+        int missing() {
+            return size() + waiting.get() - ready.size();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package ua.kpi.sc.test.api.exception;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class CircuitOpenException extends TestFrameworkException {
+
+    public CircuitOpenException(String method, String url, String host, int consecutiveFailures) {
+        super("Circuit open for " + host + ": " + method + " " + url + " not sent after "
+                        + consecutiveFailures + " consecutive connection failures",
+                null,
+                buildContext(method, url, host, consecutiveFailures));
+    }
+
+    private static Map<String, String> buildContext(String method, String url, String host, int consecutiveFailures) {
+        var ctx = new LinkedHashMap<String, String>();
+        ctx.put("method", method);
+        ctx.put("url", url);
+        ctx.put("host", host);
+        ctx.put("consecutiveFailures", String.valueOf(consecutiveFailures));
+        ctx.put("suggestion", "The backend at " + host + " stopped accepting connections; check its logs around the first failure");
+        return ctx;
+    }
+}
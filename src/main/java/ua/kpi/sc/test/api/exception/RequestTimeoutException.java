@@ -0,0 +1,48 @@
+package ua.kpi.sc.test.api.exception;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class RequestTimeoutException extends TestFrameworkException {
+
+    /**
+     * Which limit was hit.
+     */
+    public enum Phase {
+        /** No pooled connection or TCP connection within the connect timeout */
+        CONNECT,
+        /** The socket stayed silent longer than the read timeout */
+        READ,
+        /** The exchange as a whole outlived its total deadline */
+        TOTAL,
+        /** The test's HTTP time budget ran out */
+        TEST_BUDGET
+    }
+
+    private final Phase phase;
+
+    public RequestTimeoutException(String method, String url, Phase phase, long limitMs, Throwable cause) {
+        super("HTTP request timed out (" + phase + ", " + limitMs + " ms): " + method + " " + url,
+                cause,
+                buildContext(method, url, phase, limitMs));
+        this.phase = phase;
+    }
+
+    public Phase getPhase() {
+        return phase;
+    }
+
+    private static Map<String, String> buildContext(String method, String url, Phase phase, long limitMs) {
+        var ctx = new LinkedHashMap<String, String>();
+        ctx.put("method", method);
+        ctx.put("url", url);
+        ctx.put("phase", phase.name());
+        ctx.put("limitMs", String.valueOf(limitMs));
+        ctx.put("suggestion", switch (phase) {
+            case CONNECT -> "The host did not accept a connection in time; check that it is up and the pool is not exhausted";
+            case READ, TOTAL -> "The server is slow to respond; raise the limit for this endpoint under timeouts.endpoints if that is expected";
+            case TEST_BUDGET -> "The test's HTTP calls together exceeded timeouts.testBudgetMs";
+        });
+        return ctx;
+    }
+}
@@ -0,0 +1,26 @@
+package ua.kpi.sc.test.api.exception;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class UserPoolException extends TestFrameworkException {
+
+    public UserPoolException(String tier, int poolSize, long waitedMs, Throwable cause) {
+        super(cause != null
+                        ? "Provisioning pooled " + tier + " users failed"
+                        : "No pooled " + tier + " user became available within " + waitedMs + " ms",
+                cause,
+                buildContext(tier, poolSize, waitedMs, cause));
+    }
+
+    private static Map<String, String> buildContext(String tier, int poolSize, long waitedMs, Throwable cause) {
+        var ctx = new LinkedHashMap<String, String>();
+        ctx.put("tier", tier);
+        ctx.put("poolSize", String.valueOf(poolSize));
+        ctx.put("waitedMs", String.valueOf(waitedMs));
+        ctx.put("suggestion", cause != null
+                ? "Check that registration works and, for tiers other than BASIC, that ADMIN tier credentials are configured"
+                : "Raise userPool.size or userPool.leaseTimeoutMs, or return leases sooner");
+        return ctx;
+    }
+}
@@ -5,8 +5,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
+import ua.kpi.sc.test.api.config.Config;
 import ua.kpi.sc.test.api.exception.TestFrameworkException;
 import ua.kpi.sc.test.api.util.AllureHelper;
+import ua.kpi.sc.test.api.util.HttpTrace;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
@@ -20,9 +22,14 @@ public class AllureTestListener implements ITestListener {
     public void onTestStart(ITestResult result) {
         String testName = result.getTestClass().getName() + "." + result.getMethod().getMethodName();
         log.info("Starting test: {}", testName);
-        Allure.getLifecycle().updateTestCase(tc ->
-                tc.getLabels().add(new io.qameta.allure.model.Label().setName("thread").setValue(Thread.currentThread().getName()))
-        );
+        Allure.getLifecycle().updateTestCase(tc -> {
+            tc.getLabels().add(new io.qameta.allure.model.Label().setName("thread").setValue(Thread.currentThread().getName()));
+            if (Config.isSharded()) {
+                // The timeline groups by host: one lane per shard once shard results are merged
+                tc.getLabels().add(new io.qameta.allure.model.Label().setName("host")
+                        .setValue("shard-" + Config.shard().getIndex()));
+            }
+        });
     }
 
     @Override
@@ -31,6 +38,8 @@ public class AllureTestListener implements ITestListener {
                 result.getTestClass().getName(),
                 result.getMethod().getMethodName(),
                 result.getEndMillis() - result.getStartMillis());
+        DurationHistory.record(result);
+        HttpTrace.clear();
     }
 
     @Override
@@ -38,6 +47,7 @@ public class AllureTestListener implements ITestListener {
         String testName = result.getTestClass().getName() + "." + result.getMethod().getMethodName();
         log.error("FAILED: {} ({}ms)", testName,
                 result.getEndMillis() - result.getStartMillis());
+        DurationHistory.record(result);
 
         Throwable throwable = result.getThrowable();
         if (throwable != null) {
@@ -53,6 +63,12 @@ public class AllureTestListener implements ITestListener {
         if (response != null) {
             AllureHelper.attachJson("Response Body", response.toString());
         }
+
+        String httpTrace = HttpTrace.drain();
+        if (httpTrace != null) {
+            log.error("HTTP trace for {}:\n{}", testName, httpTrace);
+            AllureHelper.attachText("HTTP Trace", httpTrace);
+        }
     }
 
     @Override
@@ -60,6 +76,7 @@ public class AllureTestListener implements ITestListener {
         log.warn("SKIPPED: {}.{}",
                 result.getTestClass().getName(),
                 result.getMethod().getMethodName());
+        HttpTrace.clear();
     }
 
     private String getFullStackTrace(Throwable throwable) {
@@ -0,0 +1,33 @@
+package ua.kpi.sc.test.api.listener;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IClassListener;
+import org.testng.ITestClass;
+import ua.kpi.sc.test.api.config.Config;
+import ua.kpi.sc.test.api.data.CleanupRegistry;
+
+/**
+ * Flushes the deletions of each test class when it finishes, for {@code cleanup.strategy}
+ * {@code per_class} (blocking) and {@code streaming} (background). With {@code after_suite}
+ * everything is left to {@link ExecutionListener}.
+ */
+public class CleanupListener implements IClassListener {
+
+    private static final Logger log = LoggerFactory.getLogger(CleanupListener.class);
+
+    @Override
+    public void onAfterClass(ITestClass testClass) {
+        if (!Config.cleanup().isEnabled()) {
+            return;
+        }
+        switch (Config.cleanup().getStrategy()) {
+            case "per_class" -> {
+                log.debug("Flushing cleanup for {}", testClass.getName());
+                CleanupRegistry.flushClass(testClass.getName());
+            }
+            case "streaming" -> CleanupRegistry.flushClassInBackground(testClass.getName());
+            default -> { }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package ua.kpi.sc.test.api.listener;
+
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+import ua.kpi.sc.test.api.client.RequestDeadline;
+import ua.kpi.sc.test.api.config.Config;
+
+/**
+ * Gives each test method an HTTP time budget ({@code timeouts.testBudgetMs}) that caps its requests' timeouts.
+ * <p>
+ * Methods with a TestNG {@code timeOut} run on a separate thread and are bounded by that instead.
+ */
+public class DeadlineListener implements IInvokedMethodListener {
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod() && method.getTestMethod().getTimeOut() <= 0) {
+            RequestDeadline.startTest(Config.timeouts().getTestBudgetMs());
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            RequestDeadline.endTest();
+        }
+    }
+}
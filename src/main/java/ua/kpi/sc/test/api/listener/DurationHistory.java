@@ -0,0 +1,269 @@
+package ua.kpi.sc.test.api.listener;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ObjectNode;
+import ua.kpi.sc.test.api.client.mail.MailpitClient;
+import ua.kpi.sc.test.api.config.Config;
+import ua.kpi.sc.test.api.exception.ConfigurationException;
+import ua.kpi.sc.test.api.util.JsonHelper;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.DirectoryStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Historical test durations, used to schedule the longest tests first.
+ * <p>
+ * Durations are keyed by qualified method name and summed over all invocations of a method
+ * (data-provider rows run as one scheduling unit). At execution finish they are folded into the
+ * history file ({@code execution.durationHistoryFile}) as an exponentially weighted average, under an
+ * exclusive lock so forked JVMs can share one file. Methods without history are estimated:
+ * tests of classes holding a Mailpit client wait for e-mail delivery and are assumed slow.
+ * <p>
+ * When sharded, every node must plan its shard from the same history, so nodes never plan from their local
+ * file: only from an explicitly configured shared {@code shard.historyFile} ({@link #shardHistory}), else from
+ * the estimates alone. A sharded node writes its averages to {@code test-durations.shard-N.json} next to the
+ * local file, and {@link #main} ({@code ./gradlew mergeDurationHistory}) folds those files into it after all
+ * shards finished, ready to be published as the next run's shared history.
+ */
+final class DurationHistory {
+
+    private static final Logger log = LoggerFactory.getLogger(DurationHistory.class);
+    private static final long DEFAULT_ESTIMATE_MS = 1_000;
+    private static final long MAILPIT_ESTIMATE_MS = 10_000;
+    // Weight of the latest run in the stored average
+    private static final double ALPHA = 0.5;
+
+    private static final Map<String, LongAdder> currentRun = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Boolean> mailpitClasses = new ConcurrentHashMap<>();
+    private static volatile Map<String, Long> history;
+
+    private DurationHistory() {}
+
+    static void record(ITestResult result) {
+        long duration = result.getEndMillis() - result.getStartMillis();
+        if (duration >= 0) {
+            currentRun.computeIfAbsent(key(result.getMethod()), k -> new LongAdder()).add(duration);
+        }
+    }
+
+    static boolean hasHistory(ITestNGMethod method) {
+        return history().containsKey(key(method));
+    }
+
+    /**
+     * Recorded duration of the method, or the heuristic estimate if it has never run.
+     */
+    static long estimateMillis(ITestNGMethod method) {
+        return estimateMillis(method, history());
+    }
+
+    static long estimateMillis(ITestNGMethod method, Map<String, Long> recorded) {
+        Long duration = recorded.get(key(method));
+        if (duration != null) {
+            return duration;
+        }
+        return usesMailpit(method.getRealClass()) ? MAILPIT_ESTIMATE_MS : DEFAULT_ESTIMATE_MS;
+    }
+
+    /**
+     * Merges this run's durations into the history file, or this shard's file when sharded;
+     * a no-op if nothing was recorded.
+     */
+    static void save() {
+        if (currentRun.isEmpty()) {
+            return;
+        }
+        Path file = Config.isSharded() ? shardFile(historyFile(), Config.shard().getIndex()) : historyFile();
+        try {
+            withLock(file, () -> {
+                ObjectNode entries = read(file);
+                currentRun.forEach((key, total) -> {
+                    long latest = total.sum();
+                    JsonNode stored = entries.get(key);
+                    // A shard file starts empty; its averages build on the shared history
+                    // Boxed on both branches: a mixed long/Long conditional unboxes a missing entry
+                    Long previous = stored != null && stored.isNumber()
+                            ? Long.valueOf(stored.asLong())
+                            : history().get(key);
+                    entries.put(key, previous != null
+                            ? Math.round(ALPHA * latest + (1 - ALPHA) * previous)
+                            : latest);
+                });
+                write(file, entries);
+            });
+            log.info("Recorded durations of {} test methods in {}", currentRun.size(), file);
+            currentRun.clear();
+            history = null;
+        } catch (IOException e) {
+            // Non-fatal: the next run falls back to the previous history or the heuristics
+            log.warn("Failed to write test duration history {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Folds the {@code .shard-N} files of a sharded run into the shared history and deletes them.
+     */
+    static void mergeShards() throws IOException {
+        Path file = historyFile();
+        Path dir = file.toAbsolutePath().getParent();
+        String glob = shardFile(file, 0).getFileName().toString().replace(".shard-0", ".shard-*");
+        List<Path> shardFiles = new ArrayList<>();
+        if (Files.isDirectory(dir)) {
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, glob)) {
+                stream.forEach(shardFiles::add);
+            }
+        }
+        if (shardFiles.isEmpty()) {
+            log.info("No shard duration files next to {}", file);
+            return;
+        }
+        shardFiles.sort(null);
+        withLock(file, () -> {
+            ObjectNode entries = read(file);
+            for (Path shardFile : shardFiles) {
+                // Shards run disjoint classes, so their entries never overlap
+                read(shardFile).properties().forEach(entry -> entries.set(entry.getKey(), entry.getValue()));
+            }
+            write(file, entries);
+            for (Path shardFile : shardFiles) {
+                Files.delete(shardFile);
+            }
+        });
+        log.info("Merged {} shard duration files into {}", shardFiles.size(), file);
+    }
+
+    /**
+     * Entry point of {@code ./gradlew mergeDurationHistory}, run once after all shards finished.
+     */
+    public static void main(String[] args) throws IOException {
+        mergeShards();
+    }
+
+    /**
+     * The history every shard plans from, sorted: the configured {@code shard.historyFile}, or none.
+     *
+     * @throws ConfigurationException if the file is configured but missing or unreadable
+     */
+    static SortedMap<String, Long> shardHistory() {
+        SortedMap<String, Long> recorded = new TreeMap<>();
+        String configured = Config.shard().getHistoryFile();
+        if (configured == null || configured.isBlank()) {
+            return recorded;
+        }
+        Path file = Paths.get(configured);
+        try {
+            JsonNode root = JsonHelper.objectMapper().readTree(Files.readString(file));
+            if (!(root instanceof ObjectNode entries)) {
+                throw new ConfigurationException("shard.historyFile " + file + " is not a JSON object");
+            }
+            for (Map.Entry<String, JsonNode> entry : entries.properties()) {
+                if (entry.getValue().isNumber()) {
+                    recorded.put(entry.getKey(), entry.getValue().asLong());
+                }
+            }
+        } catch (IOException | JacksonException e) {
+            throw new ConfigurationException(file.toString(), e);
+        }
+        return recorded;
+    }
+
+    static Path shardFile(Path file, int index) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String sharded = dot > 0
+                ? name.substring(0, dot) + ".shard-" + index + name.substring(dot)
+                : name + ".shard-" + index;
+        return file.resolveSibling(sharded);
+    }
+
+    private static void withLock(Path file, IoAction action) throws IOException {
+        Path lockFile = file.resolveSibling(file.getFileName() + ".lock");
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (FileChannel channel = FileChannel.open(lockFile,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock ignored = channel.lock()) {
+            action.run();
+        }
+    }
+
+    private static void write(Path file, ObjectNode entries) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.writeString(temp, JsonHelper.objectMapper().writerWithDefaultPrettyPrinter()
+                .writeValueAsString(entries));
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static Map<String, Long> history() {
+        Map<String, Long> loaded = history;
+        if (loaded == null) {
+            loaded = new ConcurrentHashMap<>();
+            for (Map.Entry<String, JsonNode> entry : read(historyFile()).properties()) {
+                if (entry.getValue().isNumber()) {
+                    loaded.put(entry.getKey(), entry.getValue().asLong());
+                }
+            }
+            history = loaded;
+        }
+        return loaded;
+    }
+
+    private static ObjectNode read(Path file) {
+        if (!Files.exists(file)) {
+            return JsonHelper.objectMapper().createObjectNode();
+        }
+        try {
+            JsonNode root = JsonHelper.objectMapper().readTree(Files.readString(file));
+            return root instanceof ObjectNode object ? object : JsonHelper.objectMapper().createObjectNode();
+        } catch (Exception e) {
+            log.warn("Ignoring unreadable test duration history {}: {}", file, e.getMessage());
+            return JsonHelper.objectMapper().createObjectNode();
+        }
+    }
+
+    private static boolean usesMailpit(Class<?> testClass) {
+        return mailpitClasses.computeIfAbsent(testClass, type -> {
+            String mailPackage = MailpitClient.class.getPackageName();
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                if (Arrays.stream(c.getDeclaredFields())
+                        .map(Field::getType)
+                        .anyMatch(fieldType -> mailPackage.equals(fieldType.getPackageName()))) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    private static String key(ITestNGMethod method) {
+        return method.getQualifiedName();
+    }
+
+    private static Path historyFile() {
+        return Paths.get(Config.execution().getDurationHistoryFile());
+    }
+
+    private interface IoAction {
+        void run() throws IOException;
+    }
+}
@@ -5,31 +5,144 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testng.IExecutionListener;
+import org.testng.TestNG;
+import ua.kpi.sc.test.api.auth.AuthContext;
 import ua.kpi.sc.test.api.auth.AuthManager;
+import ua.kpi.sc.test.api.client.AsyncApiClient;
+import ua.kpi.sc.test.api.client.CircuitBreaker;
+import ua.kpi.sc.test.api.client.HttpConnectionPool;
+import ua.kpi.sc.test.api.client.RequestSpecCache;
+import ua.kpi.sc.test.api.client.mail.MailpitInbox;
 import ua.kpi.sc.test.api.config.Config;
+import ua.kpi.sc.test.api.config.TestConfig;
 import ua.kpi.sc.test.api.data.CleanupRegistry;
+import ua.kpi.sc.test.api.data.UserPool;
 import ua.kpi.sc.test.api.exception.ApiNotAvailableException;
 import ua.kpi.sc.test.api.exception.CleanupException;
 import ua.kpi.sc.test.api.util.AllureHelper;
+import ua.kpi.sc.test.api.util.SchemaRegistry;
 
 public class ExecutionListener implements IExecutionListener {
 
     private static final Logger log = LoggerFactory.getLogger(ExecutionListener.class);
 
+    private TestNG testNG;
+
     @Override
     public void onExecutionStart() {
+        long startNanos = System.nanoTime();
+        testNG = TestNG.getDefault();
         log.info("=== Test Execution Started ===");
+        Config.get();
+        long configLoadMs = elapsedMs(startNanos);
         log.info("Base URL: {}", Config.baseUrl());
         log.info("Auth enabled: {}", Config.isAuthEnabled());
         log.info("Parallel mode: {}, threads: {}",
                 Config.execution().getParallel(),
                 Config.execution().getThreadCount());
-        AllureHelper.writeEnvironmentProperties();
-        verifyApiAvailability();
+        if (Config.isSharded()) {
+            log.info("Shard {} of {}", Config.shard().getIndex(), Config.shard().getTotal());
+        }
+        if (Config.isVirtualThreadMode()) {
+            installVirtualThreadExecutor();
+        }
+
+        var startupTimings = new LinkedHashMap<String, String>();
+        startupTimings.put("Startup: Config Load (ms)", String.valueOf(configLoadMs));
+        try {
+            runStartupChecks(startupTimings);
+        } finally {
+            startupTimings.put("Startup: Total (ms)", String.valueOf(elapsedMs(startNanos)));
+            log.info("Startup breakdown: {}", startupTimings);
+            AllureHelper.writeEnvironmentProperties(startupTimings);
+        }
+    }
+
+    // Health check, token warm-up and schema preload run concurrently; a failed health check still fails the run
+    private void runStartupChecks(Map<String, String> startupTimings) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture<Long> health = CompletableFuture.supplyAsync(
+                    () -> timed(this::verifyApiAvailability), executor);
+            CompletableFuture<Long> warmUp = CompletableFuture.supplyAsync(
+                    () -> timed(() -> warmUpTokens(executor)), executor);
+            CompletableFuture<Long> schemas = CompletableFuture.supplyAsync(
+                    () -> timed(this::preloadSchemas), executor);
+
+            startupTimings.put("Startup: Schema Preload (ms)", String.valueOf(schemas.join()));
+            startupTimings.put("Startup: Token Warm-up (ms)", String.valueOf(warmUp.join()));
+            startupTimings.put("Startup: Health Check (ms)", String.valueOf(health.join()));
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void warmUpTokens(ExecutorService executor) {
+        Map<String, TestConfig.TierCredentials> tiers = Config.auth().getTierCredentials();
+        if (!Config.isAuthEnabled() || tiers == null || tiers.isEmpty()) {
+            return;
+        }
+
+        log.info("Warming up tokens for tiers {}", tiers.keySet());
+        List<String> failed = new CopyOnWriteArrayList<>();
+        CompletableFuture.allOf(tiers.entrySet().stream()
+                .map(entry -> CompletableFuture.runAsync(() -> {
+                    AuthContext context = AuthContext.forTier(entry.getKey(),
+                            entry.getValue().getEmail(), entry.getValue().getPassword());
+                    try {
+                        AuthManager.getToken(context);
+                    } catch (RuntimeException e) {
+                        // Non-fatal: the first test of this tier retries the login
+                        failed.add(entry.getKey());
+                        log.warn("Token warm-up failed for tier {}: {}", entry.getKey(), e.getMessage());
+                    }
+                }, executor))
+                .toArray(CompletableFuture[]::new)).join();
+        log.info("Token warm-up complete: {} of {} tiers ready", tiers.size() - failed.size(), tiers.size());
+    }
+
+    private void preloadSchemas() {
+        try {
+            SchemaRegistry.preloadAll();
+        } catch (RuntimeException e) {
+            // Non-fatal: the schema is compiled again, and the failure reported, by the first test using it
+            log.warn("JSON schema preload failed: {}", e.getMessage());
+        }
+    }
+
+    private static long timed(Runnable action) {
+        long start = System.nanoTime();
+        action.run();
+        return elapsedMs(start);
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private void installVirtualThreadExecutor() {
+        if (testNG == null) {
+            log.warn("Virtual-thread mode requested but no TestNG instance is available; using platform threads");
+            return;
+        }
+        int concurrency = Config.execution().getVirtualConcurrency();
+        testNG.setExecutorServiceFactory(new VirtualThreadExecutorFactory(concurrency));
+        log.info("Execution mode: virtual threads, concurrency limit {}", concurrency);
     }
 
     private void verifyApiAvailability() {
@@ -58,6 +171,17 @@ public class ExecutionListener implements IExecutionListener {
     @Override
     public void onExecutionFinish() {
         log.info("=== Test Execution Finished ===");
+        try {
+            // Re-runs deferred transient failures while users, tokens and connections are still there
+            RetryPass.run(testNG);
+        } finally {
+            tearDown();
+        }
+    }
+
+    private void tearDown() {
+        // Before cleanup: waits for a running refill, so no users are registered after their deletion has run
+        UserPool.shutdown();
 
         if (Config.cleanup().isEnabled()) {
             log.info("Running cleanup ({} actions registered)", CleanupRegistry.size());
@@ -68,7 +192,13 @@ public class ExecutionListener implements IExecutionListener {
             }
         }
 
+        DurationHistory.save();
         AuthManager.clearCache();
+        RequestSpecCache.clear();
+        HttpConnectionPool.shutdown();
+        AsyncApiClient.shutdown();
+        MailpitInbox.shutdown();
+        CircuitBreaker.shutdown();
         log.info("=== Cleanup Complete ===");
     }
 }
@@ -5,19 +5,42 @@ import org.slf4j.LoggerFactory;
 import org.testng.IMethodInstance;
 import org.testng.IMethodInterceptor;
 import org.testng.ITestContext;
+import org.testng.xml.XmlSuite;
+import ua.kpi.sc.test.api.config.Config;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+/**
+ * Filters methods by the {@code includeGroups} / {@code excludeGroups} system properties, keeps this
+ * node's part when {@code shard.total > 1} (see {@link ShardPlanner}), then orders
+ * them longest first by {@link DurationHistory} so the slowest tests start early and the tail of a
+ * parallel run is made of short ones. With {@code parallel=methods} methods are sorted individually;
+ * otherwise each class stays contiguous, classes are sorted by total duration and keep their own method order.
+ */
 public class MethodInterceptor implements IMethodInterceptor {
 
     private static final Logger log = LoggerFactory.getLogger(MethodInterceptor.class);
 
     @Override
     public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        List<IMethodInstance> selected = filterByGroups(methods);
+        if (Config.isSharded()) {
+            selected = ShardPlanner.select(selected, Config.shard().getIndex(), Config.shard().getTotal());
+        }
+        if (!Config.execution().isOrderByDuration() || selected.size() < 2) {
+            return selected;
+        }
+        return orderByDuration(selected, context);
+    }
+
+    private List<IMethodInstance> filterByGroups(List<IMethodInstance> methods) {
         String includeGroupsProp = System.getProperty("includeGroups");
         String excludeGroupsProp = System.getProperty("excludeGroups");
 
@@ -57,6 +80,35 @@ public class MethodInterceptor implements IMethodInterceptor {
         return filtered;
     }
 
+    private List<IMethodInstance> orderByDuration(List<IMethodInstance> methods, ITestContext context) {
+        long withHistory = methods.stream().filter(m -> DurationHistory.hasHistory(m.getMethod())).count();
+
+        List<IMethodInstance> ordered;
+        if (context.getSuite().getXmlSuite().getParallel() == XmlSuite.ParallelMode.METHODS) {
+            // List.sort is stable: equal estimates keep TestNG's order, so the result is deterministic
+            ordered = new ArrayList<>(methods);
+            ordered.sort(Comparator.comparingLong(
+                    (IMethodInstance m) -> DurationHistory.estimateMillis(m.getMethod())).reversed());
+        } else {
+            Map<Class<?>, List<IMethodInstance>> byClass = new LinkedHashMap<>();
+            for (IMethodInstance method : methods) {
+                byClass.computeIfAbsent(method.getMethod().getRealClass(), c -> new ArrayList<>()).add(method);
+            }
+            ordered = byClass.values().stream()
+                    .sorted(Comparator.comparingLong(MethodInterceptor::totalEstimate).reversed())
+                    .flatMap(List::stream)
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
+
+        log.info("Ordered {} methods longest first ({} with recorded durations, the rest estimated)",
+                ordered.size(), withHistory);
+        return ordered;
+    }
+
+    private static long totalEstimate(List<IMethodInstance> methods) {
+        return methods.stream().mapToLong(m -> DurationHistory.estimateMillis(m.getMethod())).sum();
+    }
+
     private Set<String> parseGroups(String groupsStr) {
         if (groupsStr == null || groupsStr.isBlank()) {
             return Set.of();
@@ -0,0 +1,83 @@
+package ua.kpi.sc.test.api.listener;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ua.kpi.sc.test.api.config.Config;
+import ua.kpi.sc.test.api.util.AllureHelper;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Suite-wide cap on retries ({@code retry.budget}) and the retry statistics reported after the retry pass.
+ * <p>
+ * Once the budget is spent, failures are reported as they are: if that many transient failures
+ * happen, the environment is broken and retrying the rest only prolongs the run.
+ */
+final class RetryBudget {
+
+    private static final Logger log = LoggerFactory.getLogger(RetryBudget.class);
+    private static final Map<String, RetryBudget> suites = new ConcurrentHashMap<>();
+
+    private final AtomicInteger remaining = new AtomicInteger(Config.retry().getBudget());
+    private final Map<String, LongAdder> retriesByCause = new ConcurrentHashMap<>();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder denied = new LongAdder();
+    private final LongAdder recovered = new LongAdder();
+    private final LongAdder failedAttemptMillis = new LongAdder();
+
+    private RetryBudget() {}
+
+    static RetryBudget forSuite(String suiteName) {
+        return suites.computeIfAbsent(suiteName, name -> new RetryBudget());
+    }
+
+    boolean tryAcquire() {
+        if (remaining.getAndUpdate(left -> Math.max(0, left - 1)) > 0) {
+            return true;
+        }
+        denied.increment();
+        return false;
+    }
+
+    void recordRetry(String cause, long failedAttemptMs) {
+        retries.increment();
+        retriesByCause.computeIfAbsent(cause, c -> new LongAdder()).increment();
+        failedAttemptMillis.add(failedAttemptMs);
+    }
+
+    void recordRecovery() {
+        recovered.increment();
+    }
+
+    /**
+     * Reports every suite's retries; called once the last retry round has finished.
+     */
+    static void reportAll() {
+        new TreeMap<>(suites).keySet().forEach(RetryBudget::report);
+    }
+
+    /**
+     * Logs and attaches the suite's retry summary and forgets the suite; a no-op if nothing was retried.
+     */
+    private static void report(String suiteName) {
+        RetryBudget budget = suites.remove(suiteName);
+        if (budget == null || budget.retries.sum() + budget.denied.sum() == 0) {
+            return;
+        }
+        var summary = new StringBuilder()
+                .append("Retries: ").append(budget.retries.sum())
+                .append(" (budget ").append(Config.retry().getBudget())
+                .append(", denied after exhaustion: ").append(budget.denied.sum()).append(")\n")
+                .append("Passed on re-run: ").append(budget.recovered.sum()).append('\n')
+                .append("Time lost in failed attempts: ").append(budget.failedAttemptMillis.sum()).append(" ms\n");
+        new TreeMap<>(budget.retriesByCause).forEach((cause, count) ->
+                summary.append("  ").append(cause).append(": ").append(count.sum()).append('\n'));
+        log.info("Retry summary for suite '{}':\n{}", suiteName, summary);
+        AllureHelper.writeSummaryResult("Retries: " + suiteName,
+                () -> AllureHelper.attachText("Retry summary", summary.toString()));
+    }
+}
@@ -2,40 +2,133 @@ package ua.kpi.sc.test.api.listener;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.testng.IRetryAnalyzer;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
 import org.testng.ITestResult;
 import ua.kpi.sc.test.api.config.Config;
+import ua.kpi.sc.test.api.exception.ApiConnectionException;
+import ua.kpi.sc.test.api.exception.ApiResponseException;
+import ua.kpi.sc.test.api.exception.RequestTimeoutException;
+import ua.kpi.sc.test.api.util.AssertionHelper;
+import ua.kpi.sc.test.api.util.HttpTrace;
 
-import java.util.concurrent.atomic.AtomicInteger;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 
-public class RetryListener implements IRetryAnalyzer {
+/**
+ * Retries tests that failed for a transient reason: a connection failure, a connect/read/total timeout,
+ * or a 502/503/504 response (thrown, or failing {@link AssertionHelper#assertStatusCode} on this thread's latest
+ * exchange). Other failures, e.g. assertions on the body of a 503, are reported at once.
+ * <p>
+ * A transient failure is not retried in place: the attempt is reported as skipped and handed to
+ * {@link RetryPass}, and the worker moves straight on to the next test. Once all suites have finished, the
+ * deferred tests run again in a second TestNG pass, each no earlier than its backoff after it failed. Nothing
+ * sleeps on a test worker, in either execution mode.
+ * <p>
+ * Backoff is exponential from {@code retry.backoffMs}, capped at {@code retry.maxBackoffMs}, with jitter so
+ * tests failing together are not retried in lockstep. A test is retried at most {@code retry.maxAttempts}
+ * times, and retries are capped per suite by {@link RetryBudget}. Tests that depend on other methods or
+ * groups, or that other tests depend on, are not retried, as a re-run holds only the deferred tests.
+ */
+public class RetryListener implements IInvokedMethodListener {
 
     private static final Logger log = LoggerFactory.getLogger(RetryListener.class);
-    private final AtomicInteger retryCount = new AtomicInteger(0);
+    private static final Set<Integer> TRANSIENT_STATUSES = Set.of(502, 503, 504);
 
     @Override
-    public boolean retry(ITestResult result) {
+    public void afterInvocation(IInvokedMethod method, ITestResult result) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        if (result.getStatus() == ITestResult.SUCCESS && RetryPass.isRerun(result)) {
+            RetryBudget.forSuite(RetryPass.suiteName(result)).recordRecovery();
+            return;
+        }
+        if (result.getStatus() != ITestResult.FAILURE) {
+            return;
+        }
+
         int maxRetries = Config.retry().getMaxAttempts();
-        if (maxRetries <= 0) {
-            return false;
-        }
-
-        int currentRetry = retryCount.incrementAndGet();
-        if (currentRetry <= maxRetries) {
-            long backoff = Config.retry().getBackoffMs();
-            log.warn("Retrying test {}.{} (attempt {}/{}), backoff {}ms",
-                    result.getTestClass().getName(),
-                    result.getMethod().getMethodName(),
-                    currentRetry, maxRetries, backoff);
-
-            try {
-                Thread.sleep(backoff);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+        int attempt = RetryPass.attempts(result) + 1;
+        if (maxRetries <= 0 || attempt > maxRetries) {
+            return;
+        }
+
+        String testName = result.getTestClass().getName() + "." + result.getMethod().getMethodName();
+        String cause = transientCause(result.getThrowable());
+        if (cause == null) {
+            log.debug("Not retrying {}: failure is not transient", testName);
+            return;
+        }
+        if (!RetryPass.canRerun(result)) {
+            log.debug("Not retrying {} ({}): it depends on, or is a dependency of, other methods or groups",
+                    testName, cause);
+            return;
+        }
+
+        RetryBudget budget = RetryBudget.forSuite(RetryPass.suiteName(result));
+        if (!budget.tryAcquire()) {
+            log.warn("Not retrying {} ({}): suite retry budget of {} exhausted",
+                    testName, cause, Config.retry().getBudget());
+            return;
+        }
+
+        long backoff = backoffMs(attempt);
+        log.warn("Deferring retry of test {} after {} (attempt {}/{}), backoff {}ms",
+                testName, cause, attempt, maxRetries, backoff);
+        budget.recordRetry(cause, Math.max(0, result.getEndMillis() - result.getStartMillis()));
+        RetryPass.defer(result, backoff);
+        result.setStatus(ITestResult.SKIP);
+    }
+
+    // Half the exponential delay plus a random share of the other half: never shorter than half the step
+    private static long backoffMs(int attempt) {
+        long base = Math.max(0, Config.retry().getBackoffMs());
+        long exponential = Math.min(Config.retry().getMaxBackoffMs(), base << Math.min(attempt - 1, 20));
+        long half = exponential / 2;
+        return half + ThreadLocalRandom.current().nextLong(exponential - half + 1);
+    }
+
+    /**
+     * Short label of the transient cause, or {@code null} if the failure should not be retried.
+     */
+    private static String transientCause(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof ApiConnectionException || t instanceof ConnectException) {
+                return "connection failure";
+            }
+            if (t instanceof RequestTimeoutException e) {
+                return e.getPhase() == RequestTimeoutException.Phase.TEST_BUDGET
+                        ? null
+                        : e.getPhase().name().toLowerCase(Locale.ROOT) + " timeout";
+            }
+            if (t instanceof SocketTimeoutException || t instanceof HttpTimeoutException) {
+                return "socket timeout";
             }
-            return true;
+            if (t instanceof ApiResponseException e && TRANSIENT_STATUSES.contains(e.getHttpStatus())) {
+                return "HTTP " + e.getHttpStatus();
+            }
+        }
+        int lastStatus = HttpTrace.lastStatus();
+        if (failure instanceof AssertionError && isStatusAssertion(failure)
+                && TRANSIENT_STATUSES.contains(lastStatus)) {
+            return "HTTP " + lastStatus;
         }
+        return null;
+    }
 
+    // A status assertion that got a 502/503/504 expected something else; other assertions may test the 503 itself
+    private static boolean isStatusAssertion(Throwable failure) {
+        for (StackTraceElement frame : failure.getStackTrace()) {
+            if (frame.getClassName().equals(AssertionHelper.class.getName())
+                    && frame.getMethodName().equals("assertStatusCode")) {
+                return true;
+            }
+        }
         return false;
     }
 }
@@ -0,0 +1,199 @@
+package ua.kpi.sc.test.api.listener;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ITestNGListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.TestNG;
+import org.testng.internal.ExitCode;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import ua.kpi.sc.test.api.config.Config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Second TestNG pass that re-runs the tests {@link RetryListener} deferred, started by {@link ExecutionListener}
+ * once all suites have finished.
+ * <p>
+ * Each round waits until the backoff of every test in it has elapsed, then runs one suite per original suite
+ * holding just the deferred invocations (data-provider rows by index) with their test's parameters and the
+ * suite's parallel settings. The outer run's test and suite listeners, Gradle's and Allure's among them, are
+ * reused, so a re-run is reported next to its skipped first attempt and a failed re-run fails the build.
+ * Failures deferred again go to the next round, until {@code retry.maxAttempts} or the budget stops them.
+ */
+final class RetryPass {
+
+    private static final Logger log = LoggerFactory.getLogger(RetryPass.class);
+    private static final Queue<Deferred> pending = new ConcurrentLinkedQueue<>();
+    private static final Map<String, Integer> attempts = new ConcurrentHashMap<>();
+    // Suites of the re-run rounds, mapped to the suites whose tests they re-run
+    private static final Map<XmlSuite, XmlSuite> origins = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    private RetryPass() {}
+
+    /**
+     * Whether the invocation can run on its own: a re-run includes none of the methods it depends on, nor any
+     * that depend on it, which already ran or were skipped against its deferred attempt.
+     */
+    static boolean canRerun(ITestResult result) {
+        ITestNGMethod method = result.getMethod();
+        if (method.getMethodsDependedUpon().length > 0 || method.getGroupsDependedUpon().length > 0) {
+            return false;
+        }
+        List<String> groups = List.of(method.getGroups());
+        for (ITestNGMethod other : result.getTestContext().getAllTestMethods()) {
+            if (List.of(other.getMethodsDependedUpon()).contains(method.getQualifiedName())
+                    || Arrays.stream(other.getGroupsDependedUpon()).anyMatch(groups::contains)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean isRerun(ITestResult result) {
+        return origins.containsKey(result.getTestContext().getCurrentXmlTest().getSuite());
+    }
+
+    /**
+     * Name of the suite the invocation belongs to, the original one for a re-run.
+     */
+    static String suiteName(ITestResult result) {
+        return origin(result.getTestContext().getCurrentXmlTest().getSuite()).getName();
+    }
+
+    /**
+     * How often the invocation has been deferred so far.
+     */
+    static int attempts(ITestResult result) {
+        return attempts.getOrDefault(key(result), 0);
+    }
+
+    static void defer(ITestResult result, long backoffMs) {
+        attempts.merge(key(result), 1, Integer::sum);
+        pending.add(new Deferred(result.getTestContext().getCurrentXmlTest(),
+                result.getTestClass().getRealClass().getName(), result.getMethod().getMethodName(),
+                result.getParameterIndex(), System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffMs)));
+    }
+
+    /**
+     * Re-runs the deferred tests round by round until none are left, then reports each suite's retries.
+     * Throws if a round cannot run, so that skipped first attempts never pass for a green build.
+     */
+    static void run(TestNG outer) {
+        for (int round = 1; !pending.isEmpty(); round++) {
+            List<Deferred> batch = new ArrayList<>();
+            for (Deferred deferred; (deferred = pending.poll()) != null; ) {
+                batch.add(deferred);
+            }
+            if (outer == null) {
+                throw new IllegalStateException("No TestNG instance to re-run " + batch.size() + " deferred tests");
+            }
+            long dueNanos = batch.stream().mapToLong(Deferred::dueNanos).max().orElseThrow();
+            long waitMs = TimeUnit.NANOSECONDS.toMillis(dueNanos - System.nanoTime());
+            log.info("Retry round {}: re-running {} deferred tests{}", round, batch.size(),
+                    waitMs > 0 ? " after " + waitMs + " ms of remaining backoff" : "");
+            if (waitMs > 0) {
+                try {
+                    Thread.sleep(waitMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted before re-running deferred tests", e);
+                }
+            }
+            runRound(outer, rerunSuites(batch, round));
+        }
+        RetryBudget.reportAll();
+    }
+
+    private static void runRound(TestNG outer, List<XmlSuite> suites) {
+        var testNG = new TestNG();
+        testNG.setUseDefaultListeners(false);
+        testNG.setXmlSuites(suites);
+
+        Set<ITestNGListener> listeners = Collections.newSetFromMap(new IdentityHashMap<>());
+        listeners.addAll(outer.getTestListeners());
+        listeners.addAll(outer.getSuiteListeners());
+        listeners.forEach(testNG::addListener);
+        // Allure's listener is among them; a second instance from the service loader would report twice
+        testNG.setListenersToSkipFromBeingWiredInViaServiceLoaders(
+                listeners.stream().map(l -> l.getClass().getName()).distinct().toArray(String[]::new));
+        // TestNG does not expose the suites' invoked-method and class listeners, so fresh ones stand in
+        testNG.addListener(new RetryListener());
+        testNG.addListener(new DeadlineListener());
+        testNG.addListener(new CleanupListener());
+        if (Config.isVirtualThreadMode()) {
+            testNG.setExecutorServiceFactory(
+                    new VirtualThreadExecutorFactory(Config.execution().getVirtualConcurrency()));
+        }
+
+        testNG.run();
+        if ((testNG.getStatus() & ExitCode.HAS_NO_TEST) != 0) {
+            throw new IllegalStateException("Retry round ran no tests; the deferred tests were not re-run");
+        }
+    }
+
+    private static List<XmlSuite> rerunSuites(List<Deferred> batch, int round) {
+        // Test -> class -> method -> data-provider rows
+        Map<XmlTest, Map<String, Map<String, List<Integer>>>> invocations = new IdentityHashMap<>();
+        for (Deferred deferred : batch) {
+            invocations.computeIfAbsent(deferred.test(), t -> new TreeMap<>())
+                    .computeIfAbsent(deferred.className(), c -> new TreeMap<>())
+                    .computeIfAbsent(deferred.methodName(), m -> new ArrayList<>())
+                    .add(deferred.parameterIndex());
+        }
+
+        Map<XmlSuite, XmlSuite> suites = new IdentityHashMap<>();
+        invocations.forEach((original, classes) -> {
+            XmlSuite origin = origin(original.getSuite());
+            XmlSuite suite = suites.computeIfAbsent(origin, o -> rerunSuite(o, round));
+            var test = new XmlTest(suite);
+            test.setName(original.getName());
+            test.setParameters(original.getAllParameters());
+            List<XmlClass> xmlClasses = new ArrayList<>();
+            classes.forEach((className, methods) -> {
+                var xmlClass = new XmlClass(className, false);
+                List<XmlInclude> includes = new ArrayList<>();
+                methods.forEach((method, rows) -> includes.add(new XmlInclude(method, rows, includes.size())));
+                xmlClass.setIncludedMethods(includes);
+                xmlClasses.add(xmlClass);
+            });
+            test.setXmlClasses(xmlClasses);
+        });
+        suites.forEach((origin, suite) -> origins.put(suite, origin));
+        return new ArrayList<>(suites.values());
+    }
+
+    private static XmlSuite rerunSuite(XmlSuite origin, int round) {
+        var suite = new XmlSuite();
+        suite.setName(origin.getName() + (round == 1 ? " (retries)" : " (retries, round " + round + ")"));
+        suite.setParallel(origin.getParallel());
+        suite.setThreadCount(origin.getThreadCount());
+        return suite;
+    }
+
+    private static XmlSuite origin(XmlSuite suite) {
+        return origins.getOrDefault(suite, suite);
+    }
+
+    private static String key(ITestResult result) {
+        return suiteName(result) + "/" + result.getTestContext().getCurrentXmlTest().getName()
+                + "/" + result.getMethod().getQualifiedName() + "[" + result.getParameterIndex() + "]";
+    }
+
+    private record Deferred(XmlTest test, String className, String methodName, int parameterIndex, long dueNanos) {}
+}
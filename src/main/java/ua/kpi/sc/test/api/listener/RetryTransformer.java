@@ -1,18 +0,0 @@
-package ua.kpi.sc.test.api.listener;
-
-import org.testng.IAnnotationTransformer;
-import org.testng.annotations.ITestAnnotation;
-
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Method;
-
-public class RetryTransformer implements IAnnotationTransformer {
-
-    @Override
-    public void transform(ITestAnnotation annotation, Class testClass,
-                          Constructor testConstructor, Method testMethod) {
-        if (annotation.getRetryAnalyzerClass() == null) {
-            annotation.setRetryAnalyzer(RetryListener.class);
-        }
-    }
-}
@@ -0,0 +1,217 @@
+package ua.kpi.sc.test.api.listener;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IMethodInstance;
+import org.testng.ITestNGMethod;
+import ua.kpi.sc.test.api.annotation.ShardGroup;
+import ua.kpi.sc.test.api.exception.ConfigurationException;
+import ua.kpi.sc.test.api.util.AllureHelper;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.ToLongFunction;
+
+/**
+ * Splits the selected methods into {@code shard.total} parts balanced by {@link DurationHistory}
+ * estimates and keeps the part of {@code shard.index}.
+ * <p>
+ * Whole classes are the smallest unit. Classes linked by {@code dependsOnMethods} / {@code dependsOnGroups}
+ * or by a common {@link ShardGroup} are merged into one unit. Units are placed longest first on the least
+ * loaded shard, with ties broken by class name and shard number, so every node computes the same partition
+ * as long as all nodes see the same methods and the same estimates. Durations therefore come only from the
+ * shared {@code shard.historyFile} (see {@link DurationHistory#shardHistory}), never from a node's local file,
+ * and each node logs and attaches a fingerprint of its inputs: nodes of one run whose fingerprints differ may
+ * have run some classes twice and others not at all.
+ */
+public final class ShardPlanner {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardPlanner.class);
+
+    private ShardPlanner() {}
+
+    /**
+     * @param index 1-based shard number
+     */
+    static List<IMethodInstance> select(List<IMethodInstance> methods, int index, int total) {
+        Map<String, Long> history = DurationHistory.shardHistory();
+        List<IMethodInstance> selected = select(methods, index, total,
+                method -> DurationHistory.estimateMillis(method, history));
+        Set<String> selectedClasses = new TreeSet<>();
+        selected.forEach(method -> selectedClasses.add(className(method.getMethod())));
+        reportFingerprint(methods, index, total, selectedClasses, history);
+        return selected;
+    }
+
+    /**
+     * The part of shard {@code index} when {@code methods} are balanced by {@code estimateMillis}.
+     *
+     * @param index 1-based shard number
+     */
+    public static List<IMethodInstance> select(List<IMethodInstance> methods, int index, int total,
+                                               ToLongFunction<ITestNGMethod> estimateMillis) {
+        if (total < 1 || index < 1 || index > total) {
+            throw new ConfigurationException(
+                    "shard.index must be between 1 and shard.total, got " + index + " of " + total);
+        }
+
+        Map<String, List<IMethodInstance>> byClass = new TreeMap<>();
+        for (IMethodInstance method : methods) {
+            byClass.computeIfAbsent(className(method.getMethod()), c -> new ArrayList<>()).add(method);
+        }
+
+        UnionFind units = new UnionFind();
+        Map<String, Set<String>> classesByGroup = new HashMap<>();
+        for (IMethodInstance method : methods) {
+            String className = className(method.getMethod());
+            units.add(className);
+            for (String group : method.getMethod().getGroups()) {
+                classesByGroup.computeIfAbsent(group, g -> new TreeSet<>()).add(className);
+            }
+            Class<?> testClass = method.getMethod().getRealClass();
+            ShardGroup shardGroup = testClass.getAnnotation(ShardGroup.class);
+            if (shardGroup != null) {
+                units.union(className, "@" + shardGroup.value());
+            }
+        }
+        for (IMethodInstance method : methods) {
+            String className = className(method.getMethod());
+            for (String dependency : method.getMethod().getMethodsDependedUpon()) {
+                int dot = dependency.lastIndexOf('.');
+                if (dot > 0 && byClass.containsKey(dependency.substring(0, dot))) {
+                    units.union(className, dependency.substring(0, dot));
+                }
+            }
+            for (String group : method.getMethod().getGroupsDependedUpon()) {
+                for (String other : classesByGroup.getOrDefault(group, Set.of())) {
+                    units.union(className, other);
+                }
+            }
+        }
+
+        // byClass iterates in class-name order, so each unit is keyed by its first class name
+        Map<String, Unit> unitsByRoot = new LinkedHashMap<>();
+        byClass.forEach((className, classMethods) -> {
+            Unit unit = unitsByRoot.computeIfAbsent(units.find(className), root -> new Unit(className));
+            unit.classes.add(className);
+            for (IMethodInstance method : classMethods) {
+                unit.estimateMillis += estimateMillis.applyAsLong(method.getMethod());
+            }
+        });
+
+        long[] loads = new long[total];
+        Set<String> selectedClasses = new TreeSet<>();
+        unitsByRoot.values().stream()
+                .sorted(Comparator.comparingLong((Unit u) -> u.estimateMillis).reversed()
+                        .thenComparing(u -> u.key))
+                .forEach(unit -> {
+                    int shard = 0;
+                    for (int i = 1; i < total; i++) {
+                        if (loads[i] < loads[shard]) {
+                            shard = i;
+                        }
+                    }
+                    loads[shard] += unit.estimateMillis;
+                    if (shard == index - 1) {
+                        selectedClasses.addAll(unit.classes);
+                    }
+                });
+
+        List<IMethodInstance> selected = methods.stream()
+                .filter(method -> selectedClasses.contains(className(method.getMethod())))
+                .toList();
+        long maxLoad = 0;
+        for (long load : loads) {
+            maxLoad = Math.max(maxLoad, load);
+        }
+        log.info("Shard {}/{}: {} of {} methods in {} classes, estimated {} s (largest shard {} s)",
+                index, total, selected.size(), methods.size(), selectedClasses.size(),
+                loads[index - 1] / 1000, maxLoad / 1000);
+        return selected;
+    }
+
+    private static void reportFingerprint(List<IMethodInstance> methods, int index, int total,
+                                          Set<String> selectedClasses, Map<String, Long> history) {
+        String methodsHash = sha256(methods.stream()
+                .map(method -> method.getMethod().getQualifiedName())
+                .sorted()
+                .toList());
+        String historyHash = sha256(history.entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .toList());
+        String fingerprint = sha256(List.of(String.valueOf(total), methodsHash, historyHash));
+        log.info("Shard plan fingerprint {} (methods {}, history {}); it must be the same on all {} nodes",
+                fingerprint, methodsHash, historyHash, total);
+
+        String plan = "Fingerprint: " + fingerprint + "\n"
+                + "Shards: " + total + "\n"
+                + "Methods: " + methods.size() + " (" + methodsHash + ")\n"
+                + "Duration history: " + history.size() + " entries (" + historyHash + ")\n"
+                + "Classes of shard " + index + ":\n  " + String.join("\n  ", selectedClasses) + "\n";
+        AllureHelper.writeSummaryResult("Shard plan", () -> AllureHelper.attachText("Shard plan", plan));
+    }
+
+    private static String sha256(List<String> lines) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String line : lines) {
+                digest.update(line.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+            return HexFormat.of().formatHex(digest.digest(), 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String className(ITestNGMethod method) {
+        return method.getRealClass().getName();
+    }
+
+    private static final class Unit {
+        private final String key;
+        private final List<String> classes = new ArrayList<>();
+        private long estimateMillis;
+
+        Unit(String key) {
+            this.key = key;
+        }
+    }
+
+    private static final class UnionFind {
+        private final Map<String, String> parent = new HashMap<>();
+
+        void add(String node) {
+            parent.putIfAbsent(node, node);
+        }
+
+        String find(String node) {
+            add(node);
+            String root = node;
+            while (!root.equals(parent.get(root))) {
+                root = parent.get(root);
+            }
+            parent.put(node, root);
+            return root;
+        }
+
+        void union(String a, String b) {
+            String rootA = find(a);
+            String rootB = find(b);
+            if (!rootA.equals(rootB)) {
+                parent.put(rootB, rootA);
+            }
+        }
+    }
+}
@@ -5,7 +5,9 @@ import org.slf4j.LoggerFactory;
 import org.testng.ISuite;
 import org.testng.ISuiteListener;
 import org.testng.xml.XmlSuite;
+import ua.kpi.sc.test.api.client.HttpConnectionPool;
 import ua.kpi.sc.test.api.config.Config;
+import ua.kpi.sc.test.api.metrics.EndpointMetrics;
 
 public class SuiteListener implements ISuiteListener {
 
@@ -25,6 +27,22 @@ public class SuiteListener implements ISuiteListener {
                     suite.getName(), parallel, threadCount);
         }
 
+        if (Config.isVirtualThreadMode()) {
+            if (xmlSuite.getParallel().isParallel()) {
+                xmlSuite.setThreadCount(Config.execution().getVirtualConcurrency());
+                log.info("Suite '{}' running on virtual threads: parallel={}, concurrency={}",
+                        suite.getName(), xmlSuite.getParallel(), xmlSuite.getThreadCount());
+            } else {
+                log.warn("Suite '{}' is not parallel; execution.mode=virtual has no effect", suite.getName());
+            }
+        }
+
+        int effectiveThreads = xmlSuite.getParallel().isParallel() ? xmlSuite.getThreadCount() : 1;
+        if (HttpConnectionPool.maxPerRoute() < effectiveThreads) {
+            log.warn("Connection pool maxPerRoute={} is below suite thread count {}; requests will queue for connections",
+                    HttpConnectionPool.maxPerRoute(), effectiveThreads);
+        }
+
         String excludedGroups = System.getProperty("excludeGroups");
         if (excludedGroups != null && !excludedGroups.isEmpty()) {
             log.info("Excluded groups: {}", excludedGroups);
@@ -41,5 +59,10 @@ public class SuiteListener implements ISuiteListener {
                         .mapToInt(r -> r.getTestContext().getFailedTests().size()).sum(),
                 suite.getResults().values().stream()
                         .mapToInt(r -> r.getTestContext().getSkippedTests().size()).sum());
+        log.info("HTTP connection pool after suite '{}': {}", suite.getName(), HttpConnectionPool.stats());
+        if (Config.metrics().isEnabled()) {
+            EndpointMetrics.report(suite.getName());
+            EndpointMetrics.reset();
+        }
     }
 }
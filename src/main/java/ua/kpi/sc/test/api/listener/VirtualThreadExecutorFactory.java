@@ -0,0 +1,92 @@
+package ua.kpi.sc.test.api.listener;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IExecutorServiceFactory;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs TestNG test workers on virtual threads instead of a fixed platform-thread pool.
+ * <p>
+ * TestNG's requested pool size is ignored; concurrency is bounded by {@code execution.virtualConcurrency}
+ * instead. Excess workers park on a semaphore, which costs a virtual thread rather than a carrier.
+ * Installed by {@link ExecutionListener} when {@code execution.mode} is {@code virtual}.
+ * <p>
+ * The RestAssured path blocks only on socket I/O and {@code ReentrantLock}s (connection pool),
+ * and on the Java 25 toolchain {@code synchronized} no longer pins carriers (JEP 491).
+ */
+public class VirtualThreadExecutorFactory implements IExecutorServiceFactory {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadExecutorFactory.class);
+
+    private final int concurrency;
+
+    public VirtualThreadExecutorFactory(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    @Override
+    public ExecutorService create(int corePoolSize, int maxPoolSize, long keepAliveTime, TimeUnit unit,
+                                  BlockingQueue<Runnable> workQueue, ThreadFactory threadFactory) {
+        log.debug("Creating virtual-thread executor (requested pool size {}, concurrency limit {})",
+                maxPoolSize, concurrency);
+        ThreadFactory virtualThreads = Thread.ofVirtual().name("testng-vt-", 0).factory();
+        return new BoundedVirtualThreadExecutor(Executors.newThreadPerTaskExecutor(virtualThreads), concurrency);
+    }
+
+    static final class BoundedVirtualThreadExecutor extends AbstractExecutorService {
+
+        private final ExecutorService delegate;
+        private final Semaphore permits;
+
+        BoundedVirtualThreadExecutor(ExecutorService delegate, int concurrency) {
+            this.delegate = delegate;
+            this.permits = new Semaphore(concurrency);
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            delegate.execute(() -> {
+                permits.acquireUninterruptibly();
+                try {
+                    command.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+}
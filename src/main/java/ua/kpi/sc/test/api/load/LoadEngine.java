@@ -0,0 +1,146 @@
+package ua.kpi.sc.test.api.load;
+
+import io.restassured.response.Response;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ua.kpi.sc.test.api.client.RequestSpecCache;
+import ua.kpi.sc.test.api.config.Config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator driving {@link LoadScenario}s through the typed API clients.
+ * <p>
+ * A single scheduler thread emits arrivals at the intended times of the {@link LoadProfile}
+ * and hands each to its own virtual thread, so slow responses never delay later arrivals.
+ * Latency is measured from the intended send time. Arrivals beyond {@code performance.maxInFlight}
+ * outstanding requests are counted as dropped rather than queued. Per-request Allure and logging
+ * output is suppressed; the aggregated {@link LoadResult} is attached instead.
+ * <p>
+ * Responses with status 400 or above, and exceptions, count as errors.
+ */
+public final class LoadEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadEngine.class);
+    private static final long IDLE_TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(60);
+
+    private LoadEngine() {}
+
+    public static LoadResult run(LoadScenario scenario, LoadProfile profile) {
+        LoadProfile effective = profile.scaled(Config.performance().getRateScale());
+        Semaphore inFlight = new Semaphore(Math.max(1, Config.performance().getMaxInFlight()));
+        Map<String, EndpointRecorder> recorders = new LinkedHashMap<>();
+        scenario.requests().forEach(request -> recorders.putIfAbsent(request.endpoint(), new EndpointRecorder()));
+
+        log.info("Starting load scenario '{}': {}", scenario.name(), effective);
+        long scheduled = 0;
+        long dropped = 0;
+        long start = System.nanoTime();
+        long end = start + effective.duration().toNanos();
+
+        ExecutorService workers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual()
+                .name("load-" + scenario.name() + "-", 0)
+                .inheritInheritableThreadLocals(false)
+                .factory());
+        try {
+            for (long next = start; next < end; ) {
+                awaitNanoTime(next);
+                double rate = effective.rateAt(Duration.ofNanos(next - start));
+                if (rate <= 0) {
+                    next += IDLE_TICK_NANOS;
+                    continue;
+                }
+
+                scheduled++;
+                if (inFlight.tryAcquire()) {
+                    long intended = next;
+                    LoadScenario.WeightedRequest request = scenario.pick();
+                    EndpointRecorder recorder = recorders.get(request.endpoint());
+                    workers.execute(() -> {
+                        try {
+                            invoke(request, intended, recorder);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                } else {
+                    dropped++;
+                }
+                next += (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+            }
+        } finally {
+            drain(workers);
+        }
+
+        Duration wallTime = Duration.ofNanos(System.nanoTime() - start);
+        Map<String, LoadResult.EndpointStats> endpoints = new LinkedHashMap<>();
+        recorders.forEach((endpoint, recorder) -> endpoints.put(endpoint, recorder.snapshot(endpoint)));
+        LoadResult result = new LoadResult(scenario.name(), effective, wallTime, scheduled, dropped, endpoints);
+        log.info("Load scenario finished:\n{}", result.summary());
+        return result;
+    }
+
+    private static void invoke(LoadScenario.WeightedRequest request, long intendedNanos, EndpointRecorder recorder) {
+        long sendNanos = System.nanoTime();
+        boolean error;
+        try {
+            Response response = SilentAllure.call(() -> RequestSpecCache.withoutReporting(request.call()));
+            error = response.statusCode() >= 400;
+        } catch (Exception e) {
+            log.debug("Load request {} failed: {}", request.endpoint(), e.getMessage());
+            error = true;
+        }
+        long doneNanos = System.nanoTime();
+        recorder.record(doneNanos - intendedNanos, doneNanos - sendNanos, error);
+    }
+
+    private static void awaitNanoTime(long deadline) {
+        for (long now = System.nanoTime(); now < deadline; now = System.nanoTime()) {
+            LockSupport.parkNanos(deadline - now);
+        }
+    }
+
+    private static void drain(ExecutorService workers) {
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(DRAIN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Load requests still running after {}s; abandoning them", DRAIN_TIMEOUT.toSeconds());
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            workers.shutdownNow();
+        }
+    }
+
+    private static final class EndpointRecorder {
+        private final ConcurrentHistogram responseTime = new ConcurrentHistogram(3);
+        private final ConcurrentHistogram serviceTime = new ConcurrentHistogram(3);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        void record(long responseNanos, long serviceNanos, boolean error) {
+            responseTime.recordValue(TimeUnit.NANOSECONDS.toMicros(responseNanos));
+            serviceTime.recordValue(TimeUnit.NANOSECONDS.toMicros(serviceNanos));
+            count.increment();
+            if (error) {
+                errors.increment();
+            }
+        }
+
+        LoadResult.EndpointStats snapshot(String endpoint) {
+            return new LoadResult.EndpointStats(endpoint, count.sum(), errors.sum(),
+                    responseTime.copy(), serviceTime.copy());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package ua.kpi.sc.test.api.load;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Target arrival rate over time for an open-model load run.
+ * <p>
+ * The rate is what the engine offers, independent of how fast the system responds.
+ */
+public sealed interface LoadProfile {
+
+    /**
+     * Requests per second to offer at the given offset from the start of the run.
+     */
+    double rateAt(Duration elapsed);
+
+    Duration duration();
+
+    LoadProfile scaled(double factor);
+
+    static LoadProfile constant(double ratePerSecond, Duration duration) {
+        return new Constant(ratePerSecond, duration);
+    }
+
+    static LoadProfile ramp(double fromRatePerSecond, double toRatePerSecond, Duration duration) {
+        return new Ramp(fromRatePerSecond, toRatePerSecond, duration);
+    }
+
+    static LoadProfile steps(Duration stepDuration, double... ratesPerSecond) {
+        return new Steps(stepDuration, Arrays.stream(ratesPerSecond).boxed().toList());
+    }
+
+    record Constant(double ratePerSecond, Duration duration) implements LoadProfile {
+        @Override
+        public double rateAt(Duration elapsed) {
+            return ratePerSecond;
+        }
+
+        @Override
+        public LoadProfile scaled(double factor) {
+            return new Constant(ratePerSecond * factor, duration);
+        }
+    }
+
+    record Ramp(double fromRatePerSecond, double toRatePerSecond, Duration duration) implements LoadProfile {
+        @Override
+        public double rateAt(Duration elapsed) {
+            double progress = Math.min(1.0, (double) elapsed.toNanos() / duration.toNanos());
+            return fromRatePerSecond + (toRatePerSecond - fromRatePerSecond) * progress;
+        }
+
+        @Override
+        public LoadProfile scaled(double factor) {
+            return new Ramp(fromRatePerSecond * factor, toRatePerSecond * factor, duration);
+        }
+    }
+
+    record Steps(Duration stepDuration, List<Double> ratesPerSecond) implements LoadProfile {
+        @Override
+        public double rateAt(Duration elapsed) {
+            int step = (int) Math.min(ratesPerSecond.size() - 1, elapsed.toNanos() / stepDuration.toNanos());
+            return ratesPerSecond.get(step);
+        }
+
+        @Override
+        public Duration duration() {
+            return stepDuration.multipliedBy(ratesPerSecond.size());
+        }
+
+        @Override
+        public LoadProfile scaled(double factor) {
+            return new Steps(stepDuration, ratesPerSecond.stream().map(rate -> rate * factor).toList());
+        }
+    }
+}
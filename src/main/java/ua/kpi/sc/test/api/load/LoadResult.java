@@ -0,0 +1,128 @@
+package ua.kpi.sc.test.api.load;
+
+import org.HdrHistogram.Histogram;
+import tools.jackson.databind.node.ObjectNode;
+import ua.kpi.sc.test.api.util.AllureHelper;
+import ua.kpi.sc.test.api.util.JsonHelper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Outcome of one load run: offered vs. achieved load and latency histograms per endpoint.
+ * <p>
+ * Response time is measured from the intended send time, so queueing caused by a slow system
+ * is included (no coordinated omission); service time is measured from the actual send.
+ */
+public record LoadResult(
+        String scenario,
+        LoadProfile profile,
+        Duration wallTime,
+        long scheduled,
+        long dropped,
+        Map<String, EndpointStats> endpoints
+) {
+
+    public EndpointStats endpoint(String endpoint) {
+        EndpointStats stats = endpoints.get(endpoint);
+        if (stats == null) {
+            throw new IllegalArgumentException("No requests recorded for " + endpoint + "; known: " + endpoints.keySet());
+        }
+        return stats;
+    }
+
+    public long completed() {
+        return endpoints.values().stream().mapToLong(EndpointStats::count).sum();
+    }
+
+    public long errors() {
+        return endpoints.values().stream().mapToLong(EndpointStats::errors).sum();
+    }
+
+    public double errorRate() {
+        long completed = completed();
+        return completed == 0 ? 0 : (double) errors() / completed;
+    }
+
+    public double achievedRate() {
+        return completed() / Math.max(0.001, wallTime.toMillis() / 1000.0);
+    }
+
+    public String summary() {
+        var summary = new StringBuilder();
+        summary.append(String.format("Scenario '%s': %s%n", scenario, profile));
+        summary.append(String.format("Scheduled %d, completed %d, dropped %d, errors %d (%.2f%%), achieved %.1f req/s in %d ms%n",
+                scheduled, completed(), dropped, errors(), errorRate() * 100, achievedRate(), wallTime.toMillis()));
+        summary.append(String.format("%-40s %8s %7s %9s %9s %9s %9s %9s%n",
+                "Endpoint", "Count", "Errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        endpoints.forEach((name, stats) -> summary.append(String.format("%-40s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                name, stats.count(), stats.errors(),
+                stats.percentileMillis(50), stats.percentileMillis(90), stats.percentileMillis(99),
+                stats.percentileMillis(99.9), stats.maxMillis())));
+        return summary.toString();
+    }
+
+    public String toJson() {
+        ObjectNode root = JsonHelper.objectMapper().createObjectNode();
+        root.put("scenario", scenario);
+        root.put("profile", profile.toString());
+        root.put("wallTimeMs", wallTime.toMillis());
+        root.put("scheduled", scheduled);
+        root.put("completed", completed());
+        root.put("dropped", dropped);
+        root.put("errors", errors());
+        root.put("achievedRate", achievedRate());
+        ObjectNode perEndpoint = root.putObject("endpoints");
+        endpoints.forEach((name, stats) -> {
+            ObjectNode node = perEndpoint.putObject(name);
+            node.put("count", stats.count());
+            node.put("errors", stats.errors());
+            node.put("p50Ms", stats.percentileMillis(50));
+            node.put("p90Ms", stats.percentileMillis(90));
+            node.put("p99Ms", stats.percentileMillis(99));
+            node.put("p999Ms", stats.percentileMillis(99.9));
+            node.put("maxMs", stats.maxMillis());
+            node.put("serviceP99Ms", stats.serviceTime().getValueAtPercentile(99) / 1000.0);
+        });
+        return JsonHelper.objectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(root);
+    }
+
+    public void attachToAllure() {
+        AllureHelper.attachText("Load summary: " + scenario, summary());
+        AllureHelper.attachJson("Load result: " + scenario, toJson());
+        endpoints.forEach((name, stats) ->
+                AllureHelper.attachText("Latency distribution: " + name, stats.percentileDistribution()));
+    }
+
+    /**
+     * Latencies are recorded in microseconds.
+     */
+    public record EndpointStats(String endpoint, long count, long errors, Histogram responseTime, Histogram serviceTime) {
+
+        public double percentileMillis(double percentile) {
+            return responseTime.getValueAtPercentile(percentile) / 1000.0;
+        }
+
+        public double maxMillis() {
+            return responseTime.getMaxValue() / 1000.0;
+        }
+
+        public double errorRate() {
+            return count == 0 ? 0 : (double) errors / count;
+        }
+
+        /**
+         * HdrHistogram percentile output in milliseconds, plottable with the HdrHistogram plotter.
+         */
+        public String percentileDistribution() {
+            var buffer = new ByteArrayOutputStream();
+            try (var out = new PrintStream(buffer, true, StandardCharsets.UTF_8)) {
+                responseTime.outputPercentileDistribution(out, 1000.0);
+            }
+            return buffer.toString(StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package ua.kpi.sc.test.api.load;
+
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Named mix of weighted requests, each issued through a typed client.
+ * <p>
+ * Every arrival picks one request at random in proportion to its weight. Requests are labelled
+ * by endpoint (e.g. {@code "GET /users"}); latencies are recorded per label.
+ */
+public final class LoadScenario {
+
+    private final String name;
+    private final List<WeightedRequest> requests = new ArrayList<>();
+    private int totalWeight;
+
+    private LoadScenario(String name) {
+        this.name = name;
+    }
+
+    public static LoadScenario named(String name) {
+        return new LoadScenario(name);
+    }
+
+    public LoadScenario request(String endpoint, Supplier<Response> call) {
+        return request(endpoint, 1, call);
+    }
+
+    public LoadScenario request(String endpoint, int weight, Supplier<Response> call) {
+        if (weight <= 0) {
+            throw new IllegalArgumentException("Weight must be positive: " + weight);
+        }
+        requests.add(new WeightedRequest(endpoint, weight, call));
+        totalWeight += weight;
+        return this;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    List<WeightedRequest> requests() {
+        return requests;
+    }
+
+    WeightedRequest pick() {
+        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (WeightedRequest request : requests) {
+            roll -= request.weight();
+            if (roll < 0) {
+                return request;
+            }
+        }
+        return requests.getLast();
+    }
+
+    record WeightedRequest(String endpoint, int weight, Supplier<Response> call) {}
+}
@@ -0,0 +1,64 @@
+package ua.kpi.sc.test.api.load;
+
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.AllureResultsWriter;
+import io.qameta.allure.aspects.StepsAspects;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.InputStream;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Runs a call with {@code @Step} reporting redirected to a throwaway lifecycle.
+ * <p>
+ * Load workers have no Allure test context, so every client {@code @Step} would otherwise log
+ * "no test case running"; inheriting the test's context instead would add one step per request.
+ */
+final class SilentAllure {
+
+    private static final Logger log = LoggerFactory.getLogger(SilentAllure.class);
+    private static final AllureLifecycle DISCARDING = new AllureLifecycle(new AllureResultsWriter() {
+        @Override
+        public void write(TestResult testResult) {}
+
+        @Override
+        public void write(TestResultContainer testResultContainer) {}
+
+        @Override
+        public void write(String source, InputStream attachment) {}
+    });
+    private static final boolean STEPS_AVAILABLE = stepsAvailable();
+
+    private SilentAllure() {}
+
+    static <T> T call(Supplier<T> call) {
+        if (!STEPS_AVAILABLE) {
+            return call.get();
+        }
+        String uuid = UUID.randomUUID().toString();
+        StepsAspects.setLifecycle(DISCARDING);
+        DISCARDING.scheduleTestCase(new TestResult().setUuid(uuid));
+        DISCARDING.startTestCase(uuid);
+        try {
+            return call.get();
+        } finally {
+            DISCARDING.stopTestCase(uuid);
+            DISCARDING.writeTestCase(uuid);
+        }
+    }
+
+    // Without the AspectJ agent there is no step weaving and the aspect class may not even load
+    private static boolean stepsAvailable() {
+        try {
+            StepsAspects.getLifecycle();
+            return true;
+        } catch (LinkageError e) {
+            log.debug("Allure step aspects unavailable: {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package ua.kpi.sc.test.api.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+import ua.kpi.sc.test.api.config.Config;
+import ua.kpi.sc.test.api.util.AllureHelper;
+import ua.kpi.sc.test.api.util.JsonHelper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency, status and traffic collected from every request by {@link EndpointMetricsFilter}
+ * and, for asynchronous requests, by {@link #record}.
+ * <p>
+ * Endpoints are keyed by method and templated path ({@code GET /api/v1/users/{id}}), so a regression
+ * on any endpoint shows up in functional runs. {@link #report} writes the percentiles of each suite to its
+ * own file, {@code metrics.outputFile} with the suite name appended ({@code endpoint-metrics-smoke-tests.json}),
+ * and to an Allure summary result.
+ */
+public final class EndpointMetrics {
+
+    private static final Logger log = LoggerFactory.getLogger(EndpointMetrics.class);
+    private static final ConcurrentHashMap<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+
+    private EndpointMetrics() {}
+
+    static EndpointStats forEndpoint(String method, String path) {
+        String key = method + " " + EndpointTemplates.resolve(path);
+        EndpointStats stats = endpoints.get(key);
+        return stats != null ? stats : endpoints.computeIfAbsent(key, k -> new EndpointStats());
+    }
+
+    /**
+     * Records an exchange made without REST Assured, such as one of {@code AsyncApiClient}.
+     */
+    public static void record(String method, String path, long elapsedNanos, int status, long bytesOut, long bytesIn) {
+        forEndpoint(method, path).record(elapsedNanos, status, bytesOut, bytesIn);
+    }
+
+    public static void recordFailure(String method, String path, long bytesOut) {
+        forEndpoint(method, path).recordFailure(bytesOut);
+    }
+
+    public static void report(String suiteName) {
+        if (endpoints.isEmpty()) {
+            return;
+        }
+        Map<String, EndpointStats> sorted = new TreeMap<>(endpoints);
+        String json = toJson(suiteName, sorted);
+        String table = toTable(sorted);
+        log.info("Endpoint latency for suite '{}':\n{}", suiteName, table);
+
+        Path file = suiteFile(Path.of(Config.metrics().getOutputFile()), suiteName);
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.writeString(file, json);
+            log.info("Endpoint metrics written to {}", file);
+        } catch (IOException e) {
+            // Intentionally non-fatal: metrics are supplementary to the test results
+            log.warn("Failed to write endpoint metrics to {}", file, e);
+        }
+
+        AllureHelper.writeSummaryResult("Endpoint latency: " + suiteName, () -> {
+            AllureHelper.attachText("Endpoint latency", table);
+            AllureHelper.attachJson("Endpoint metrics", json);
+        });
+    }
+
+    // One file per suite, so a multi-suite run does not overwrite earlier suites' metrics
+    static Path suiteFile(Path configured, String suiteName) {
+        String slug = suiteName.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-").replaceAll("^-|-$", "");
+        String name = configured.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String suffixed = dot > 0
+                ? name.substring(0, dot) + "-" + slug + name.substring(dot)
+                : name + "-" + slug;
+        return configured.resolveSibling(suffixed);
+    }
+
+    public static void reset() {
+        endpoints.clear();
+    }
+
+    private static String toJson(String suiteName, Map<String, EndpointStats> sorted) {
+        ObjectNode root = JsonHelper.objectMapper().createObjectNode();
+        root.put("suite", suiteName);
+        ArrayNode list = root.putArray("endpoints");
+        sorted.forEach((endpoint, stats) -> {
+            Histogram latency = stats.latency.snapshot();
+            ObjectNode node = list.addObject();
+            node.put("endpoint", endpoint);
+            node.put("count", latency.getTotalCount());
+            node.put("p50Ms", millis(latency.getValueAtPercentile(50)));
+            node.put("p90Ms", millis(latency.getValueAtPercentile(90)));
+            node.put("p99Ms", millis(latency.getValueAtPercentile(99)));
+            node.put("maxMs", millis(latency.getMaxValue()));
+            ObjectNode statuses = node.putObject("status");
+            for (int statusClass = 1; statusClass < stats.statusClasses.length; statusClass++) {
+                long count = stats.statusClasses[statusClass].sum();
+                if (count > 0) {
+                    statuses.put(statusClass + "xx", count);
+                }
+            }
+            node.put("failures", stats.failures.sum());
+            node.put("bytesOut", stats.bytesOut.sum());
+            node.put("bytesIn", stats.bytesIn.sum());
+        });
+        return JsonHelper.objectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(root);
+    }
+
+    private static String toTable(Map<String, EndpointStats> sorted) {
+        var table = new StringBuilder(String.format("%-60s %7s %9s %9s %9s %9s %6s %6s%n",
+                "Endpoint", "Count", "p50 ms", "p90 ms", "p99 ms", "max ms", "4xx", "5xx"));
+        sorted.forEach((endpoint, stats) -> {
+            Histogram latency = stats.latency.snapshot();
+            table.append(String.format("%-60s %7d %9.1f %9.1f %9.1f %9.1f %6d %6d%n",
+                    endpoint, latency.getTotalCount(),
+                    millis(latency.getValueAtPercentile(50)), millis(latency.getValueAtPercentile(90)),
+                    millis(latency.getValueAtPercentile(99)), millis(latency.getMaxValue()),
+                    stats.statusClasses[4].sum(), stats.statusClasses[5].sum()));
+        });
+        return table.toString();
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    static final class EndpointStats {
+        private final StripedHistogram latency = new StripedHistogram();
+        private final LongAdder[] statusClasses = new LongAdder[6];
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder bytesOut = new LongAdder();
+        private final LongAdder bytesIn = new LongAdder();
+
+        EndpointStats() {
+            for (int i = 0; i < statusClasses.length; i++) {
+                statusClasses[i] = new LongAdder();
+            }
+        }
+
+        void record(long elapsedNanos, int status, long sent, long received) {
+            latency.recordMicros(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+            statusClasses[Math.clamp(status / 100, 0, statusClasses.length - 1)].increment();
+            bytesOut.add(sent);
+            bytesIn.add(received);
+        }
+
+        // Connection-level failures carry no status and are kept out of the latency percentiles
+        void recordFailure(long sent) {
+            failures.increment();
+            bytesOut.add(sent);
+        }
+    }
+}
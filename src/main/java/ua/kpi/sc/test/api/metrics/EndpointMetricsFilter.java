@@ -0,0 +1,54 @@
+package ua.kpi.sc.test.api.metrics;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Records latency, status class and bytes in/out of every exchange into {@link EndpointMetrics}.
+ * <p>
+ * Ordered last so the measured time covers the HTTP exchange, not the other filters' work.
+ */
+public class EndpointMetricsFilter implements OrderedFilter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        EndpointMetrics.EndpointStats stats = EndpointMetrics.forEndpoint(requestSpec.getMethod(), path(requestSpec));
+        long bytesOut = bodySize(requestSpec.getBody());
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (RuntimeException e) {
+            stats.recordFailure(bytesOut);
+            throw e;
+        }
+        stats.record(System.nanoTime() - start, response.getStatusCode(), bytesOut, response.asByteArray().length);
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return Integer.MAX_VALUE;
+    }
+
+    private static String path(FilterableRequestSpecification requestSpec) {
+        String path = requestSpec.getUserDefinedPath();
+        return path == null || path.isEmpty() ? requestSpec.getDerivedPath() : path;
+    }
+
+    private static long bodySize(Object body) {
+        return switch (body) {
+            case null -> 0;
+            case byte[] bytes -> bytes.length;
+            case String text -> text.getBytes(StandardCharsets.UTF_8).length;
+            default -> 0;
+        };
+    }
+}
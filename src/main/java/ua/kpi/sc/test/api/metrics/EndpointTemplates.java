@@ -0,0 +1,88 @@
+package ua.kpi.sc.test.api.metrics;
+
+import ua.kpi.sc.test.api.config.Endpoint;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Maps concrete request paths back to their {@link Endpoint} templates,
+ * e.g. {@code /api/v1/users/42/tier} to {@code /api/v1/users/{id}/tier}.
+ * <p>
+ * Literal segments win over placeholders, so {@code /api/v1/users/me} stays as is.
+ * Paths no template covers get ID-like segments (numbers, UUIDs, long hex) replaced by {@code {id}}.
+ */
+final class EndpointTemplates {
+
+    private static final Pattern ID_SEGMENT = Pattern.compile(
+            "\\d+|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}|[0-9a-fA-F]{16,}");
+
+    // Templates grouped by segment count, most literal segments first
+    private static final Map<Integer, List<String[]>> TEMPLATES = loadTemplates();
+
+    private EndpointTemplates() {}
+
+    static String resolve(String path) {
+        int query = path.indexOf('?');
+        if (query >= 0) {
+            path = path.substring(0, query);
+        }
+        if (path.indexOf('{') >= 0) {
+            return path;
+        }
+        String[] segments = path.split("/", -1);
+        for (String[] template : TEMPLATES.getOrDefault(segments.length, List.of())) {
+            if (matches(template, segments)) {
+                return String.join("/", template);
+            }
+        }
+        for (int i = 0; i < segments.length; i++) {
+            if (ID_SEGMENT.matcher(segments[i]).matches()) {
+                segments[i] = "{id}";
+            }
+        }
+        return String.join("/", segments);
+    }
+
+    private static boolean matches(String[] template, String[] segments) {
+        for (int i = 0; i < template.length; i++) {
+            if (!isPlaceholder(template[i]) && !template[i].equals(segments[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isPlaceholder(String segment) {
+        return segment.startsWith("{") && segment.endsWith("}");
+    }
+
+    private static long literalCount(String[] template) {
+        return Arrays.stream(template).filter(segment -> !isPlaceholder(segment)).count();
+    }
+
+    private static Map<Integer, List<String[]>> loadTemplates() {
+        Map<Integer, List<String[]>> templates = new HashMap<>();
+        for (Field field : Endpoint.class.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) || field.getType() != String.class) {
+                continue;
+            }
+            try {
+                String[] template = ((String) field.get(null)).split("/", -1);
+                templates.computeIfAbsent(template.length, length -> new ArrayList<>()).add(template);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot read Endpoint." + field.getName(), e);
+            }
+        }
+        templates.values().forEach(list ->
+                list.sort(Comparator.comparingLong(EndpointTemplates::literalCount).reversed()));
+        return templates;
+    }
+}
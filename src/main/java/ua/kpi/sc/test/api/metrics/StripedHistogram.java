@@ -0,0 +1,48 @@
+package ua.kpi.sc.test.api.metrics;
+
+import org.HdrHistogram.AtomicHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Latency histogram in microseconds, striped by thread so parallel tests rarely touch the same counters.
+ * <p>
+ * Each stripe is a lock-free {@link AtomicHistogram}, created on first use by a thread mapping to it.
+ * Values above one hour are clamped.
+ */
+final class StripedHistogram {
+
+    private static final long MAX_MICROS = TimeUnit.HOURS.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 2;
+    private static final int STRIPES = Integer.highestOneBit(
+            Math.min(16, Runtime.getRuntime().availableProcessors()) * 2 - 1);
+
+    private final AtomicReferenceArray<AtomicHistogram> stripes = new AtomicReferenceArray<>(STRIPES);
+
+    void recordMicros(long micros) {
+        stripe().recordValue(Math.clamp(micros, 0, MAX_MICROS));
+    }
+
+    Histogram snapshot() {
+        Histogram merged = new Histogram(MAX_MICROS, SIGNIFICANT_DIGITS);
+        for (int i = 0; i < STRIPES; i++) {
+            AtomicHistogram stripe = stripes.get(i);
+            if (stripe != null) {
+                merged.add(stripe);
+            }
+        }
+        return merged;
+    }
+
+    private AtomicHistogram stripe() {
+        int index = (int) Thread.currentThread().threadId() & (STRIPES - 1);
+        AtomicHistogram stripe = stripes.get(index);
+        if (stripe == null) {
+            stripes.compareAndSet(index, null, new AtomicHistogram(MAX_MICROS, SIGNIFICANT_DIGITS));
+            stripe = stripes.get(index);
+        }
+        return stripe;
+    }
+}
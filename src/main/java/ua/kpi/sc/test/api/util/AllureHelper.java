@@ -1,6 +1,10 @@
 package ua.kpi.sc.test.api.util;
 
 import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.util.ResultsUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ua.kpi.sc.test.api.config.Config;
@@ -10,7 +14,10 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.UUID;
 
 public final class AllureHelper {
 
@@ -19,6 +26,10 @@ public final class AllureHelper {
     private AllureHelper() {}
 
     public static void writeEnvironmentProperties() {
+        writeEnvironmentProperties(Map.of());
+    }
+
+    public static void writeEnvironmentProperties(Map<String, String> additionalProperties) {
         String resultsDir = System.getProperty("allure.results.directory", "build/allure-results");
         Path resultsPath = Paths.get(resultsDir);
 
@@ -28,15 +39,20 @@ public final class AllureHelper {
             Properties props = new Properties();
             props.setProperty("Base URL", Config.baseUrl());
             props.setProperty("Timeout", String.valueOf(Config.timeout()));
+            props.setProperty("Connect / Read Timeout (ms)",
+                    Config.timeouts().getConnectMs() + " / " + Config.timeouts().getReadMs());
             props.setProperty("Auth Enabled", String.valueOf(Config.isAuthEnabled()));
             props.setProperty("Parallel Mode", Config.execution().getParallel());
             props.setProperty("Thread Count", String.valueOf(Config.execution().getThreadCount()));
+            props.setProperty("Execution Mode", Config.execution().getMode());
+            props.setProperty("Shard", Config.shard().getIndex() + "/" + Config.shard().getTotal());
             props.setProperty("Environment Profile", System.getProperty("env", "default"));
             props.setProperty("Retry Max Attempts", String.valueOf(Config.retry().getMaxAttempts()));
             props.setProperty("Retry Backoff (ms)", String.valueOf(Config.retry().getBackoffMs()));
             props.setProperty("Cleanup Enabled", String.valueOf(Config.cleanup().isEnabled()));
             props.setProperty("Java Version", System.getProperty("java.version", "unknown"));
             props.setProperty("OS", System.getProperty("os.name", "unknown"));
+            additionalProperties.forEach(props::setProperty);
 
             Path envFile = resultsPath.resolve("environment.properties");
             try (FileOutputStream fos = new FileOutputStream(envFile.toFile())) {
@@ -57,6 +73,33 @@ public final class AllureHelper {
         Allure.addAttachment(name, "application/json", json);
     }
 
+    /**
+     * Reports suite-level output as a standalone passed result, for use when no test is running.
+     * Attachments added by {@code attachments} land on that result. The name carries the shard when sharded,
+     * so summaries from merged shard results are not taken for retries of one another.
+     */
+    public static void writeSummaryResult(String summaryName, Runnable attachments) {
+        String name = Config.isSharded()
+                ? summaryName + " (shard " + Config.shard().getIndex() + "/" + Config.shard().getTotal() + ")"
+                : summaryName;
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String uuid = UUID.randomUUID().toString();
+        lifecycle.scheduleTestCase(new TestResult()
+                .setUuid(uuid)
+                .setName(name)
+                .setFullName("summary." + name)
+                .setHistoryId("summary." + name)
+                .setStatus(Status.PASSED)
+                .setLabels(List.of(ResultsUtils.createSuiteLabel("Execution summary"))));
+        lifecycle.startTestCase(uuid);
+        try {
+            attachments.run();
+        } finally {
+            lifecycle.stopTestCase(uuid);
+            lifecycle.writeTestCase(uuid);
+        }
+    }
+
     public static void step(String name, Runnable action) {
         Allure.step(name, () -> {
             action.run();
@@ -13,8 +13,8 @@ public final class AssertionHelper {
     @Step("Assert status code is {expectedStatus}")
     public static void assertStatusCode(Response response, int expectedStatus) {
         assertThat(response.getStatusCode())
-                .as("Expected HTTP status %d but got %d. Body: %s",
-                        expectedStatus, response.getStatusCode(), response.getBody().asPrettyString())
+                .as(() -> String.format("Expected HTTP status %d but got %d. Body: %s",
+                        expectedStatus, response.getStatusCode(), ResponseBody.of(response).pretty()))
                 .isEqualTo(expectedStatus);
     }
 
@@ -34,7 +34,7 @@ public final class AssertionHelper {
 
     @Step("Assert JSON path '{jsonPath}' equals '{expectedValue}'")
     public static void assertJsonPath(Response response, String jsonPath, Object expectedValue) {
-        Object actual = response.jsonPath().get(jsonPath);
+        Object actual = ResponseBody.of(response).value(jsonPath);
         assertThat(actual)
                 .as("Expected JSON path '%s' to be '%s' but was '%s'", jsonPath, expectedValue, actual)
                 .isEqualTo(expectedValue);
@@ -42,7 +42,7 @@ public final class AssertionHelper {
 
     @Step("Assert JSON path '{jsonPath}' is not null")
     public static void assertJsonPathNotNull(Response response, String jsonPath) {
-        Object actual = response.jsonPath().get(jsonPath);
+        Object actual = ResponseBody.of(response).value(jsonPath);
         assertThat(actual)
                 .as("Expected JSON path '%s' to be not null", jsonPath)
                 .isNotNull();
@@ -50,7 +50,7 @@ public final class AssertionHelper {
 
     @Step("Assert JSON path '{jsonPath}' contains '{substring}'")
     public static void assertJsonPathContains(Response response, String jsonPath, String substring) {
-        String actual = response.jsonPath().getString(jsonPath);
+        String actual = ResponseBody.of(response).string(jsonPath);
         assertThat(actual)
                 .as("Expected JSON path '%s' to contain '%s'", jsonPath, substring)
                 .contains(substring);
@@ -58,9 +58,9 @@ public final class AssertionHelper {
 
     @Step("Assert response body is not empty")
     public static void assertBodyNotEmpty(Response response) {
-        assertThat(response.getBody().asString())
+        assertThat(ResponseBody.of(response).isEmpty())
                 .as("Expected response body to not be empty")
-                .isNotEmpty();
+                .isFalse();
     }
 
     public static void assertStatusAndContentType(Response response, int status, String contentType) {
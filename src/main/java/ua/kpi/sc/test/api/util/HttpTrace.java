@@ -0,0 +1,198 @@
+package ua.kpi.sc.test.api.util;
+
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import ua.kpi.sc.test.api.config.Config;
+
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Bounded per-thread buffer of the latest HTTP exchanges, rendered only when a test fails.
+ * <p>
+ * Recording stores references to the request spec and response, so passing tests pay for one small
+ * object per request and no formatting or console I/O. The buffer holds the last
+ * {@code httpTrace.capacity} exchanges made on the thread since the previous test finished there,
+ * including configuration methods. Credentials headers are masked and bodies truncated to
+ * {@code httpTrace.maxBodyChars} when rendered. Asynchronous exchanges complete on other threads and are
+ * recorded through the {@link #recorder()} of the thread that issued them.
+ */
+public final class HttpTrace {
+
+    private static final String MASKED = "***";
+    private static final Set<String> MASKED_HEADERS = Set.of("authorization", "proxy-authorization", "cookie", "set-cookie");
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+
+    private static final ThreadLocal<Ring> buffer = ThreadLocal.withInitial(
+            () -> new Ring(Math.max(1, Config.httpTrace().getCapacity())));
+
+    private HttpTrace() {}
+
+    public static void record(FilterableRequestSpecification request, Response response, RuntimeException failure) {
+        buffer.get().add(new Exchange(System.currentTimeMillis(), new SpecRequest(request), response,
+                response != null ? response.getTime() : -1, failure));
+    }
+
+    /**
+     * Handle on this thread's buffer for recording exchanges that complete on another thread.
+     */
+    public static Recorder recorder() {
+        return new Recorder(buffer.get());
+    }
+
+    /**
+     * Renders and clears this thread's buffer; {@code null} if nothing was recorded.
+     */
+    public static String drain() {
+        Ring ring = buffer.get();
+        synchronized (ring) {
+            if (ring.size == 0) {
+                return null;
+            }
+            int maxBodyChars = Config.httpTrace().getMaxBodyChars();
+            var out = new StringBuilder();
+            if (ring.dropped > 0) {
+                out.append("(").append(ring.dropped).append(" earlier exchanges not kept)\n");
+            }
+            ring.forEach(exchange -> render(exchange, maxBodyChars, out));
+            ring.clear();
+            return out.toString();
+        }
+    }
+
+    public static void clear() {
+        buffer.get().clear();
+    }
+
+    /**
+     * Status code of this thread's latest exchange; 0 if none was recorded or it got no response.
+     */
+    public static int lastStatus() {
+        Exchange last = buffer.get().last();
+        return last != null && last.response() != null ? last.response().getStatusCode() : 0;
+    }
+
+    private static void render(Exchange exchange, int maxBodyChars, StringBuilder out) {
+        LocalTime time = LocalTime.ofInstant(Instant.ofEpochMilli(exchange.timestamp()), ZoneId.systemDefault());
+        out.append("--- [").append(time.format(TIME)).append("] ");
+        switch (exchange.request()) {
+            case SpecRequest(FilterableRequestSpecification request) -> {
+                out.append(request.getMethod()).append(' ').append(request.getURI()).append('\n');
+                appendHeaders("> ", request.getHeaders(), out);
+                if (request.getBody() != null) {
+                    appendBody("> ", request.getBody().toString(), maxBodyChars, out);
+                }
+            }
+            case Request request -> {
+                out.append(request.method()).append(' ').append(request.uri()).append(" (async)\n");
+                appendHeaders("> ", request.headers(), out);
+                appendBody("> ", request.body(), maxBodyChars, out);
+            }
+        }
+
+        Response response = exchange.response();
+        if (response == null) {
+            out.append("< failed: ").append(exchange.failure()).append('\n');
+            return;
+        }
+        out.append("< ").append(response.getStatusLine()).append(" (").append(exchange.timeMs()).append(" ms)\n");
+        appendHeaders("< ", response.getHeaders(), out);
+        appendBody("< ", response.asString(), maxBodyChars, out);
+    }
+
+    private static void appendHeaders(String prefix, Headers headers, StringBuilder out) {
+        for (Header header : headers) {
+            out.append(prefix).append(header.getName()).append(": ")
+                    .append(MASKED_HEADERS.contains(header.getName().toLowerCase(Locale.ROOT)) ? MASKED : header.getValue())
+                    .append('\n');
+        }
+    }
+
+    private static void appendBody(String prefix, String body, int maxBodyChars, StringBuilder out) {
+        if (body == null || body.isEmpty()) {
+            return;
+        }
+        out.append(prefix);
+        if (body.length() > maxBodyChars) {
+            out.append(body, 0, maxBodyChars)
+                    .append("... [truncated, ").append(body.length()).append(" chars total]");
+        } else {
+            out.append(body);
+        }
+        out.append('\n');
+    }
+
+    /**
+     * Request line, headers and body of an exchange made outside REST Assured.
+     */
+    public record Request(String method, String uri, Headers headers, String body) implements TracedRequest {}
+
+    /**
+     * Records into the buffer of the thread that created it; safe to use from any thread.
+     */
+    public static final class Recorder {
+        private final Ring ring;
+
+        private Recorder(Ring ring) {
+            this.ring = ring;
+        }
+
+        public void record(Request request, Response response, long timeMs, Throwable failure) {
+            ring.add(new Exchange(System.currentTimeMillis(), request, response, timeMs, failure));
+        }
+    }
+
+    // Kept as references and rendered only on failure
+    private sealed interface TracedRequest permits SpecRequest, Request {}
+
+    private record SpecRequest(FilterableRequestSpecification spec) implements TracedRequest {}
+
+    private record Exchange(long timestamp, TracedRequest request, Response response, long timeMs, Throwable failure) {}
+
+    private static final class Ring {
+        private final Exchange[] slots;
+        private int next;
+        private int size;
+        private long dropped;
+
+        Ring(int capacity) {
+            slots = new Exchange[capacity];
+        }
+
+        synchronized void add(Exchange exchange) {
+            if (size == slots.length) {
+                dropped++;
+            } else {
+                size++;
+            }
+            slots[next] = exchange;
+            next = (next + 1) % slots.length;
+        }
+
+        synchronized Exchange last() {
+            return size == 0 ? null : slots[(next - 1 + slots.length) % slots.length];
+        }
+
+        synchronized void forEach(Consumer<Exchange> action) {
+            int start = (next - size + slots.length) % slots.length;
+            for (int i = 0; i < size; i++) {
+                action.accept(slots[(start + i) % slots.length]);
+            }
+        }
+
+        synchronized void clear() {
+            Arrays.fill(slots, null);
+            next = 0;
+            size = 0;
+            dropped = 0;
+        }
+    }
+}
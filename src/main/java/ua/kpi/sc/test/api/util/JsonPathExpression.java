@@ -0,0 +1,127 @@
+package ua.kpi.sc.test.api.util;
+
+import tools.jackson.core.JsonPointer;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.IntNode;
+import tools.jackson.databind.node.MissingNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled path into a Jackson tree, cached by its string form.
+ * <p>
+ * Accepts the GPath subset the tests use — {@code "content.email"}, {@code "messages[0].ID"},
+ * {@code "content[-1]"}, {@code "content.size()"} — where a field name applied to an array collects
+ * that field from every element. Nested arrays keep their nesting, as in GPath: {@code "content.roles.name"}
+ * yields one array of names per element of {@code content}. Expressions starting with {@code /} are JSON Pointers
+ * ({@code "/content/0/email"}) and are resolved with {@link JsonNode#at(JsonPointer)}.
+ * Missing paths evaluate to {@link MissingNode}.
+ */
+public final class JsonPathExpression {
+
+    private static final Map<String, JsonPathExpression> compiled = new ConcurrentHashMap<>();
+
+    private final String expression;
+    private final JsonPointer pointer;
+    private final List<Step> steps;
+
+    private JsonPathExpression(String expression, JsonPointer pointer, List<Step> steps) {
+        this.expression = expression;
+        this.pointer = pointer;
+        this.steps = steps;
+    }
+
+    public static JsonPathExpression compile(String expression) {
+        JsonPathExpression path = compiled.get(expression);
+        return path != null ? path : compiled.computeIfAbsent(expression, JsonPathExpression::parse);
+    }
+
+    public JsonNode evaluate(JsonNode root) {
+        if (pointer != null) {
+            return root.at(pointer);
+        }
+        JsonNode current = root;
+        for (Step step : steps) {
+            current = switch (step) {
+                case Field field -> field(current, field.name());
+                case Index index -> index(current, index.index());
+                case Size ignored -> size(current);
+            };
+        }
+        return current;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    private static JsonPathExpression parse(String expression) {
+        if (expression.startsWith("/")) {
+            return new JsonPathExpression(expression, JsonPointer.compile(expression), List.of());
+        }
+        List<Step> steps = new ArrayList<>();
+        String[] segments = expression.isEmpty() ? new String[0] : expression.split("\\.");
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if ("size()".equals(segment)) {
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException("size() must be the last segment: " + expression);
+                }
+                steps.add(new Size());
+                continue;
+            }
+            int bracket = segment.indexOf('[');
+            String name = bracket < 0 ? segment : segment.substring(0, bracket);
+            if (!name.isEmpty()) {
+                steps.add(new Field(name));
+            }
+            while (bracket >= 0) {
+                int close = segment.indexOf(']', bracket);
+                if (close < 0) {
+                    throw new IllegalArgumentException("Unclosed '[' in JSON path: " + expression);
+                }
+                steps.add(new Index(Integer.parseInt(segment.substring(bracket + 1, close).trim())));
+                bracket = segment.indexOf('[', close);
+            }
+        }
+        return new JsonPathExpression(expression, null, List.copyOf(steps));
+    }
+
+    private static JsonNode field(JsonNode node, String name) {
+        if (!node.isArray()) {
+            return node.path(name);
+        }
+        ArrayNode collected = JsonHelper.objectMapper().createArrayNode();
+        for (JsonNode element : node) {
+            JsonNode value = element.isArray() ? field(element, name) : element.path(name);
+            if (!value.isMissingNode()) {
+                collected.add(value);
+            }
+        }
+        return collected;
+    }
+
+    private static JsonNode index(JsonNode node, int index) {
+        return node.path(index < 0 ? node.size() + index : index);
+    }
+
+    private static JsonNode size(JsonNode node) {
+        if (node.isContainer()) {
+            return IntNode.valueOf(node.size());
+        }
+        return node.isString() ? IntNode.valueOf(node.asString().length()) : MissingNode.getInstance();
+    }
+
+    private sealed interface Step permits Field, Index, Size {}
+
+    private record Field(String name) implements Step {}
+
+    private record Index(int index) implements Step {}
+
+    private record Size() implements Step {}
+}
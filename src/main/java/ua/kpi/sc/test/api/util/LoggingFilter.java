@@ -8,36 +8,30 @@ import io.restassured.specification.FilterableResponseSpecification;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Records every exchange into the thread's {@link HttpTrace}, which is only rendered for failed tests.
+ * With TRACE enabled for this logger, a one-line summary per request is also logged as it happens.
+ */
 public class LoggingFilter implements Filter {
 
     private static final Logger log = LoggerFactory.getLogger(LoggingFilter.class);
-    private static final String MASKED = "***";
 
     @Override
     public Response filter(FilterableRequestSpecification requestSpec,
                            FilterableResponseSpecification responseSpec,
                            FilterContext ctx) {
-        logRequest(requestSpec);
-        Response response = ctx.next(requestSpec, responseSpec);
-        logResponse(response);
-        return response;
-    }
-
-    private void logRequest(FilterableRequestSpecification requestSpec) {
-        log.debug("Request: {} {}", requestSpec.getMethod(), requestSpec.getURI());
-        requestSpec.getHeaders().forEach(header -> {
-            String value = "Authorization".equalsIgnoreCase(header.getName()) ? MASKED : header.getValue();
-            log.debug("  Header: {} = {}", header.getName(), value);
-        });
-        if (requestSpec.getBody() != null) {
-            log.debug("  Body: {}", requestSpec.getBody().toString());
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (RuntimeException e) {
+            HttpTrace.record(requestSpec, null, e);
+            throw e;
         }
-    }
-
-    private void logResponse(Response response) {
-        log.debug("Response: {} {} ({}ms)",
-                response.getStatusCode(),
-                response.getStatusLine(),
-                response.getTime());
+        HttpTrace.record(requestSpec, response, null);
+        if (log.isTraceEnabled()) {
+            log.trace("{} {} -> {} ({}ms)", requestSpec.getMethod(), requestSpec.getURI(),
+                    response.getStatusCode(), response.getTime());
+        }
+        return response;
     }
 }
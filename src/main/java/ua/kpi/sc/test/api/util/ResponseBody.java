@@ -0,0 +1,162 @@
+package ua.kpi.sc.test.api.util;
+
+import io.restassured.response.Response;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.MissingNode;
+import ua.kpi.sc.test.api.exception.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Body of a {@link Response}, read once and shared by assertions, schema checks and failure messages.
+ * <p>
+ * The bytes are copied out of the response on first use; the Jackson tree ({@link JsonHelper#objectMapper()})
+ * and the text are built lazily, and pretty-printing only happens when {@link #pretty()} is called,
+ * i.e. when an assertion fails. Instances are cached per response for as long as the response is reachable,
+ * in weak maps striped by identity hash so that threads asserting on different responses rarely share a lock;
+ * a lock is held only for the lookup and insert, never while the body is read.
+ */
+public final class ResponseBody {
+
+    private static final int STRIPES = 16;
+    private static final List<Map<Response, ResponseBody>> bodies = Stream
+            .generate(() -> Collections.synchronizedMap(new WeakHashMap<Response, ResponseBody>()))
+            .limit(STRIPES)
+            .toList();
+
+    private final byte[] bytes;
+    private volatile String text;
+    private volatile JsonNode tree;
+
+    private ResponseBody(byte[] bytes) {
+        this.bytes = bytes != null ? bytes : new byte[0];
+    }
+
+    public static ResponseBody of(Response response) {
+        Map<Response, ResponseBody> stripe = bodies.get(Math.floorMod(System.identityHashCode(response), STRIPES));
+        ResponseBody cached = stripe.get(response);
+        if (cached != null) {
+            return cached;
+        }
+        // Two threads may both copy the bytes on a first-use race; the first insert wins
+        ResponseBody created = new ResponseBody(response.asByteArray());
+        ResponseBody raced = stripe.putIfAbsent(response, created);
+        return raced != null ? raced : created;
+    }
+
+    public byte[] bytes() {
+        return bytes;
+    }
+
+    public boolean isEmpty() {
+        return bytes.length == 0;
+    }
+
+    public String asString() {
+        String result = text;
+        if (result == null) {
+            result = new String(bytes, StandardCharsets.UTF_8);
+            text = result;
+        }
+        return result;
+    }
+
+    /**
+     * The parsed body; {@link MissingNode} for an empty body.
+     */
+    public JsonNode tree() {
+        JsonNode result = tree;
+        if (result == null) {
+            if (isEmpty()) {
+                result = MissingNode.getInstance();
+            } else {
+                try {
+                    result = JsonHelper.objectMapper().readTree(bytes);
+                } catch (Exception e) {
+                    throw new SerializationException(SerializationException.Direction.DESERIALIZE,
+                            "JsonNode", asString(), e);
+                }
+            }
+            tree = result;
+        }
+        return result;
+    }
+
+    /**
+     * Node at a path such as {@code "content.email"} or {@code "messages[0].ID"}; see {@link JsonPathExpression}.
+     */
+    public JsonNode node(String path) {
+        return JsonPathExpression.compile(path).evaluate(tree());
+    }
+
+    /**
+     * Value at a dotted path as plain Java objects (String, Number, Boolean, List, Map), or {@code null}.
+     * Numbers are typed as REST Assured's {@code jsonPath()} types them, so values compared with
+     * {@code equals} keep matching: integers as Integer, Long or BigInteger, decimals as Float, or as
+     * Double beyond the float range.
+     */
+    public Object value(String path) {
+        JsonNode node = node(path);
+        if (node.isMissingNode() || node.isNull()) {
+            return null;
+        }
+        return plain(node);
+    }
+
+    /**
+     * Text of a scalar at a dotted path, compact JSON for an object or array, or {@code null}.
+     */
+    public String string(String path) {
+        JsonNode node = node(path);
+        if (node.isMissingNode() || node.isNull()) {
+            return null;
+        }
+        return node.isValueNode() ? node.asString() : node.toString();
+    }
+
+    private static Object plain(JsonNode node) {
+        if (node.isObject()) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            node.properties().forEach(entry -> map.put(entry.getKey(), plain(entry.getValue())));
+            return map;
+        }
+        if (node.isArray()) {
+            List<Object> list = new ArrayList<>(node.size());
+            node.forEach(element -> list.add(plain(element)));
+            return list;
+        }
+        if (node.isFloatingPointNumber()) {
+            double value = node.doubleValue();
+            return Math.abs(value) <= Float.MAX_VALUE ? (Object) (float) value : (Object) value;
+        }
+        if (node.isNumber()) {
+            return node.numberValue();
+        }
+        if (node.isBoolean()) {
+            return node.booleanValue();
+        }
+        return node.isNull() ? null : node.asString();
+    }
+
+    /**
+     * Indented JSON for messages and attachments; the raw text if the body is not JSON.
+     */
+    public String pretty() {
+        try {
+            JsonNode parsed = tree();
+            if (parsed.isMissingNode()) {
+                return "";
+            }
+            return JsonHelper.objectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(parsed);
+        } catch (SerializationException e) {
+            return asString();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package ua.kpi.sc.test.api.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jackson.JacksonUtils;
+import com.github.fge.jackson.JsonLoader;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ua.kpi.sc.test.api.exception.ConfigurationException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * Compiled JSON schemas from the classpath {@code schemas/} directory, loaded once and shared.
+ * <p>
+ * Uses the same validator and default settings as REST Assured's {@code matchesJsonSchemaInClasspath},
+ * which otherwise reads and compiles the schema on every assertion. {@link #preloadAll} compiles every
+ * schema in parallel at execution start; schemas not preloaded are compiled on first use.
+ * Compiled schemas are immutable and safe to share between test threads.
+ */
+public final class SchemaRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(SchemaRegistry.class);
+    private static final String SCHEMA_DIR = "schemas";
+    private static final JsonSchemaFactory FACTORY = JsonSchemaFactory.byDefault();
+    private static final Map<String, JsonSchema> schemas = new ConcurrentHashMap<>();
+
+    private SchemaRegistry() {}
+
+    /**
+     * Compiles all schemas under {@code schemas/}; returns how many are registered.
+     */
+    public static int preloadAll() {
+        List<String> paths = listSchemas();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture.allOf(paths.stream()
+                    .map(path -> CompletableFuture.runAsync(() -> schema(path), executor))
+                    .toArray(CompletableFuture[]::new)).join();
+        }
+        log.info("Preloaded {} JSON schemas", paths.size());
+        return schemas.size();
+    }
+
+    /**
+     * @param schemaPath path relative to {@code schemas/}, e.g. {@code "problem-detail.json"}
+     */
+    public static JsonSchema schema(String schemaPath) {
+        JsonSchema schema = schemas.get(schemaPath);
+        return schema != null ? schema : schemas.computeIfAbsent(schemaPath, SchemaRegistry::compile);
+    }
+
+    public static ProcessingReport validate(String schemaPath, String json) throws ProcessingException {
+        try {
+            return validate(schemaPath, JsonLoader.fromString(json));
+        } catch (IOException e) {
+            throw new ProcessingException("Response body is not valid JSON: " + e.getMessage());
+        }
+    }
+
+    public static ProcessingReport validate(String schemaPath, byte[] json) throws ProcessingException {
+        try {
+            return validate(schemaPath, JacksonUtils.getReader().readTree(json));
+        } catch (IOException e) {
+            throw new ProcessingException("Response body is not valid JSON: " + e.getMessage());
+        }
+    }
+
+    public static ProcessingReport validate(String schemaPath, JsonNode instance) throws ProcessingException {
+        return schema(schemaPath).validate(instance);
+    }
+
+    private static JsonSchema compile(String schemaPath) {
+        String resource = "/" + SCHEMA_DIR + "/" + schemaPath;
+        try {
+            JsonSchema schema = FACTORY.getJsonSchema(JsonLoader.fromResource(resource));
+            // Syntax checking and root validators are built lazily on first validation; do it now
+            schema.validateUnchecked(JacksonUtils.nodeFactory().objectNode());
+            return schema;
+        } catch (IOException | ProcessingException e) {
+            throw new ConfigurationException(resource, e);
+        }
+    }
+
+    private static List<String> listSchemas() {
+        URL root = SchemaRegistry.class.getClassLoader().getResource(SCHEMA_DIR);
+        if (root == null) {
+            return List.of();
+        }
+        try {
+            URI uri = root.toURI();
+            if ("jar".equals(uri.getScheme())) {
+                try (FileSystem jar = FileSystems.newFileSystem(uri, Map.of())) {
+                    return list(jar.provider().getPath(uri));
+                } catch (FileSystemAlreadyExistsException e) {
+                    return list(Path.of(uri));
+                }
+            }
+            return list(Path.of(uri));
+        } catch (IOException | URISyntaxException e) {
+            throw new ConfigurationException(root.toString(), e);
+        }
+    }
+
+    private static List<String> list(Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.filter(file -> file.toString().endsWith(".json"))
+                    .map(file -> dir.relativize(file).toString().replace('\\', '/'))
+                    .toList();
+        }
+    }
+}
@@ -1,24 +1,31 @@
 package ua.kpi.sc.test.api.util;
 
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
 import io.qameta.allure.Step;
-import io.restassured.module.jsv.JsonSchemaValidator;
 import io.restassured.response.Response;
 import ua.kpi.sc.test.api.exception.SchemaValidationException;
 
-import static org.assertj.core.api.Assertions.assertThat;
-
+/**
+ * Validates responses against schemas compiled once by {@link SchemaRegistry}, reading the body
+ * through the shared {@link ResponseBody}.
+ */
 public final class SchemaValidator {
 
     private SchemaValidator() {}
 
     @Step("Validate response against JSON schema: {schemaPath}")
     public static void validateSchema(Response response, String schemaPath) {
+        ResponseBody body = ResponseBody.of(response);
+        ProcessingReport report;
         try {
-            response.then().assertThat()
-                    .body(JsonSchemaValidator.matchesJsonSchemaInClasspath("schemas/" + schemaPath));
-        } catch (AssertionError e) {
-            throw new SchemaValidationException(schemaPath, response.getStatusLine(),
-                    response.getBody().asString(), e);
+            report = SchemaRegistry.validate(schemaPath, body.bytes());
+        } catch (ProcessingException e) {
+            throw new SchemaValidationException(schemaPath, response.getStatusLine(), body.asString(), e);
+        }
+        if (!report.isSuccess()) {
+            throw new SchemaValidationException(schemaPath, response.getStatusLine(), body.asString(),
+                    new AssertionError(report.toString()));
         }
     }
 
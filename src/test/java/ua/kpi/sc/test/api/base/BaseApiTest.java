@@ -14,8 +14,10 @@ import ua.kpi.sc.test.api.annotation.Authentication;
 import ua.kpi.sc.test.api.auth.AuthContext;
 import ua.kpi.sc.test.api.auth.AuthContextResolver;
 import ua.kpi.sc.test.api.auth.AuthManager;
+import ua.kpi.sc.test.api.auth.InvocationAuth;
 import ua.kpi.sc.test.api.client.ApiClient;
 import ua.kpi.sc.test.api.config.Config;
+import ua.kpi.sc.test.api.data.UserPool;
 import ua.kpi.sc.test.api.util.AssertionHelper;
 import ua.kpi.sc.test.api.util.JsonHelper;
 
@@ -26,7 +28,6 @@ public abstract class BaseApiTest {
 
     protected final Logger log = LoggerFactory.getLogger(getClass());
     protected final ApiClient apiClient = new ApiClient();
-    protected String authToken;
 
     @BeforeClass(alwaysRun = true)
     public void baseSetUp() {
@@ -45,10 +46,10 @@ public abstract class BaseApiTest {
 
         AuthContext authContext = AuthContextResolver.resolve(method, getClass());
         if (authContext.enabled()) {
-            authToken = AuthManager.getToken(authContext);
+            InvocationAuth.bind(authContext, AuthManager.getToken(authContext));
             log.debug("Auth token acquired for tier: {}", authContext.tier());
         } else {
-            authToken = null;
+            InvocationAuth.bind(authContext, null);
         }
     }
 
@@ -65,6 +66,17 @@ public abstract class BaseApiTest {
                 result.getMethod().getMethodName(),
                 status,
                 result.getEndMillis() - result.getStartMillis());
+        InvocationAuth.clear();
+        UserPool.returnLeases(result.isSuccess());
+    }
+
+    // Auth token of the current test invocation (null when auth is disabled)
+    protected String authToken() {
+        return InvocationAuth.token();
+    }
+
+    protected AuthContext authContext() {
+        return InvocationAuth.context();
     }
 
     // HTTP helper methods
@@ -22,8 +22,7 @@ public class AuthMeTest extends BaseAuthTest {
     @Test(groups = {TestGroup.POSITIVE},
             description = "GET /auth/me returns current user profile with all key fields")
     public void meReturnsProfile() {
-        Response regResponse = registerUniqueUser();
-        String accessToken = extractCookie(regResponse, "access_token");
+        String accessToken = leaseAccessToken();
 
         Response response = authClient.getMe(accessToken);
 
@@ -38,8 +37,7 @@ public class AuthMeTest extends BaseAuthTest {
     @Test(groups = {TestGroup.POSITIVE, TestGroup.SCHEMA},
             description = "GET /me returns all required fields non-null")
     public void meReturnsAllRequiredFields() {
-        Response regResponse = registerUniqueUser();
-        String accessToken = extractCookie(regResponse, "access_token");
+        String accessToken = leaseAccessToken();
 
         Response response = authClient.getMe(accessToken);
 
@@ -70,8 +68,7 @@ public class AuthMeTest extends BaseAuthTest {
     @Test(groups = {TestGroup.SCHEMA},
             description = "GET /me response matches auth-user-response schema")
     public void meResponseMatchesSchema() {
-        Response regResponse = registerUniqueUser();
-        String accessToken = extractCookie(regResponse, "access_token");
+        String accessToken = leaseAccessToken();
 
         Response response = authClient.getMe(accessToken);
 
@@ -84,8 +81,7 @@ public class AuthMeTest extends BaseAuthTest {
     @Test(groups = {TestGroup.POSITIVE, TestGroup.SCHEMA},
             description = "GET /me returns a valid UUID as id")
     public void meReturnsValidUuid() {
-        Response regResponse = registerUniqueUser();
-        String accessToken = extractCookie(regResponse, "access_token");
+        String accessToken = leaseAccessToken();
 
         Response response = authClient.getMe(accessToken);
 
@@ -97,8 +93,7 @@ public class AuthMeTest extends BaseAuthTest {
     @Test(groups = {TestGroup.POSITIVE},
             description = "GET /me returns capabilityTier 1 for newly registered user")
     public void meReturnsCapabilityTier1ForNewUser() {
-        Response regResponse = registerUniqueUser();
-        String accessToken = extractCookie(regResponse, "access_token");
+        String accessToken = leaseAccessToken();
 
         Response response = authClient.getMe(accessToken);
 
@@ -109,8 +104,7 @@ public class AuthMeTest extends BaseAuthTest {
     @Test(groups = {TestGroup.POSITIVE, TestGroup.CONTRACT},
             description = "GET /me response Content-Type is application/json")
     public void meResponseContentTypeIsJson() {
-        Response regResponse = registerUniqueUser();
-        String accessToken = extractCookie(regResponse, "access_token");
+        String accessToken = leaseAccessToken();
 
         Response response = authClient.getMe(accessToken);
 
@@ -121,8 +115,7 @@ public class AuthMeTest extends BaseAuthTest {
     @Test(groups = {TestGroup.POSITIVE},
             description = "GET /me with access_token cookie succeeds")
     public void meWithAccessTokenCookieSucceeds() {
-        Response regResponse = registerUniqueUser();
-        String accessToken = extractCookie(regResponse, "access_token");
+        String accessToken = leaseAccessToken();
 
         Response response = authClient.getMeWithCookie(accessToken);
 
@@ -175,8 +168,7 @@ public class AuthMeTest extends BaseAuthTest {
     @Test(groups = {TestGroup.POSITIVE},
             description = "GET /me is idempotent — two calls return identical data")
     public void meIdempotent() {
-        Response regResponse = registerUniqueUser();
-        String accessToken = extractCookie(regResponse, "access_token");
+        String accessToken = leaseAccessToken();
 
         Response first = authClient.getMe(accessToken);
         Response second = authClient.getMe(accessToken);
@@ -220,8 +212,7 @@ public class AuthMeTest extends BaseAuthTest {
     @Test(groups = {TestGroup.NEGATIVE, TestGroup.SECURITY},
             description = "GET /me with tampered JWT signature returns 401")
     public void meWithTamperedJwtSignatureReturns401() {
-        Response regResponse = registerUniqueUser();
-        String accessToken = extractCookie(regResponse, "access_token");
+        String accessToken = leaseAccessToken();
 
         String tampered = accessToken.substring(0, accessToken.length() - 3) + "xxx";
 
@@ -256,8 +247,7 @@ public class AuthMeTest extends BaseAuthTest {
     @Test(groups = {TestGroup.CONTRACT, TestGroup.METHOD_NOT_ALLOWED},
             description = "POST /me 405 matches ProblemDetail schema")
     public void me405MatchesProblemDetailSchema() {
-        Response regResponse = registerUniqueUser();
-        String accessToken = extractCookie(regResponse, "access_token");
+        String accessToken = leaseAccessToken();
 
         Response response = authClient.post(Endpoint.AUTH_ME, "{}", accessToken);
 
@@ -270,8 +260,7 @@ public class AuthMeTest extends BaseAuthTest {
     @Test(groups = {TestGroup.METHOD_NOT_ALLOWED},
             description = "POST /me returns 405")
     public void meMethodNotAllowedPost() {
-        Response regResponse = registerUniqueUser();
-        String accessToken = extractCookie(regResponse, "access_token");
+        String accessToken = leaseAccessToken();
 
         Response response = authClient.post(Endpoint.AUTH_ME, "{}", accessToken);
 
@@ -283,8 +272,7 @@ public class AuthMeTest extends BaseAuthTest {
     @Test(groups = {TestGroup.METHOD_NOT_ALLOWED},
             description = "PUT /me returns 405")
     public void meMethodNotAllowedPut() {
-        Response regResponse = registerUniqueUser();
-        String accessToken = extractCookie(regResponse, "access_token");
+        String accessToken = leaseAccessToken();
 
         Response response = authClient.put(Endpoint.AUTH_ME, "{}", accessToken);
 
@@ -294,8 +282,7 @@ public class AuthMeTest extends BaseAuthTest {
     @Test(groups = {TestGroup.METHOD_NOT_ALLOWED},
             description = "DELETE /me returns 405")
     public void meMethodNotAllowedDelete() {
-        Response regResponse = registerUniqueUser();
-        String accessToken = extractCookie(regResponse, "access_token");
+        String accessToken = leaseAccessToken();
 
         Response response = authClient.delete(Endpoint.AUTH_ME, accessToken);
 
@@ -305,8 +292,7 @@ public class AuthMeTest extends BaseAuthTest {
     @Test(groups = {TestGroup.METHOD_NOT_ALLOWED},
             description = "PATCH /me returns 405")
     public void meMethodNotAllowedPatch() {
-        Response regResponse = registerUniqueUser();
-        String accessToken = extractCookie(regResponse, "access_token");
+        String accessToken = leaseAccessToken();
 
         Response response = authClient.patch(Endpoint.AUTH_ME, "{}", accessToken);
 
@@ -328,8 +314,7 @@ public class AuthMeTest extends BaseAuthTest {
     @Test(groups = {TestGroup.SECURITY},
             description = "GET /me response does not contain password field")
     public void meDoesNotReturnPasswordField() {
-        Response regResponse = registerUniqueUser();
-        String accessToken = extractCookie(regResponse, "access_token");
+        String accessToken = leaseAccessToken();
 
         Response response = authClient.getMe(accessToken);
 
@@ -5,8 +5,10 @@ import io.restassured.response.Response;
 import ua.kpi.sc.test.api.base.BasePublicApiTest;
 import ua.kpi.sc.test.api.client.auth.AuthClient;
 import ua.kpi.sc.test.api.data.TestDataFactory;
+import ua.kpi.sc.test.api.data.UserPool;
 import ua.kpi.sc.test.api.model.auth.LoginRequest;
 import ua.kpi.sc.test.api.model.auth.RegisterRequest;
+import ua.kpi.sc.test.api.model.enums.CapabilityTier;
 
 public abstract class BaseAuthTest extends BasePublicApiTest {
 
@@ -32,6 +34,12 @@ public abstract class BaseAuthTest extends BasePublicApiTest {
         return extractCookie(response, "access_token");
     }
 
+    // Token of a pooled, already logged-in BASIC user, for tests that only need some valid account;
+    // the lease is returned when the test method ends
+    protected String leaseAccessToken() {
+        return UserPool.lease(CapabilityTier.BASIC).token();
+    }
+
     protected String registerAndGetRefreshToken() {
         Response response = registerUniqueUser();
         return extractCookie(response, "refresh_token");
@@ -0,0 +1,53 @@
+package ua.kpi.sc.test.api.tests.framework;
+
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.testng.Reporter;
+import org.testng.annotations.Test;
+import ua.kpi.sc.test.api.base.BasePublicApiTest;
+import ua.kpi.sc.test.api.config.TestGroup;
+import ua.kpi.sc.test.api.data.CleanupRegistry;
+import ua.kpi.sc.test.api.data.CleanupRegistry.CleanupHandle;
+import ua.kpi.sc.test.api.data.ResourceType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Epic("Framework")
+@Feature("Cleanup")
+public class CleanupRegistryTest extends BasePublicApiTest {
+
+    // One method: a class flush takes everything this class registered
+    @Test(groups = {TestGroup.FRAMEWORK})
+    public void classFlushRunsChildrenBeforeTheirParents() throws Exception {
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+
+        CleanupHandle project = CleanupRegistry.register(ResourceType.PROJECT, "Test project",
+                () -> order.add("project"));
+        CleanupRegistry.register(ResourceType.OTHER, "Test project member", project, () -> order.add("member"));
+        CleanupHandle user = CleanupRegistry.registerDeletion(ResourceType.USER, UUID.randomUUID().toString(),
+                "Delete test user");
+        CleanupRegistry.register(ResourceType.OTHER, "Test partner level", user, () -> order.add("partner"));
+
+        CleanupRegistry.flushClass(getClass().getName());
+        assertThat(order).containsExactlyInAnyOrder("member", "project", "partner");
+        assertThat(order.indexOf("member")).isLessThan(order.indexOf("project"));
+
+        // A parent whose child belongs to no test class is left for suite end, together with the child
+        order.clear();
+        CleanupHandle held = CleanupRegistry.register(ResourceType.PROJECT, "Held test project",
+                () -> order.add("held project"));
+        Thread foreign = Thread.ofPlatform().start(() -> {
+            Reporter.setCurrentTestResult(null);
+            CleanupRegistry.register(ResourceType.OTHER, "Foreign member", held, () -> order.add("foreign member"));
+        });
+        foreign.join();
+
+        CleanupRegistry.flushClass(getClass().getName());
+        assertThat(order).isEmpty();
+    }
+}
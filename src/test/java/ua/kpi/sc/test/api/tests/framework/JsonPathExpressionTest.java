@@ -0,0 +1,68 @@
+package ua.kpi.sc.test.api.tests.framework;
+
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.testng.annotations.Test;
+import tools.jackson.databind.JsonNode;
+import ua.kpi.sc.test.api.base.BasePublicApiTest;
+import ua.kpi.sc.test.api.config.TestGroup;
+import ua.kpi.sc.test.api.util.JsonHelper;
+import ua.kpi.sc.test.api.util.JsonPathExpression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static ua.kpi.sc.test.api.assertion.JsonMatchers.equalTo;
+
+@Epic("Framework")
+@Feature("JSON paths")
+public class JsonPathExpressionTest extends BasePublicApiTest {
+
+    private static final JsonNode PAGE = JsonHelper.objectMapper().readTree("""
+            {
+              "totalElements": 3.0,
+              "content": [
+                {"email": "a@kpi.ua", "roles": [{"name": "MEMBER"}, {"name": "ADMIN"}]},
+                {"email": "b@kpi.ua", "roles": [{"name": "MEMBER"}]},
+                {"email": "c@kpi.ua", "roles": []}
+              ]
+            }
+            """);
+
+    @Test(groups = {TestGroup.FRAMEWORK})
+    public void negativeIndexCountsFromTheEnd() {
+        assertThat(evaluate("content[-1].email").asString()).isEqualTo("c@kpi.ua");
+        assertThat(evaluate("content[-3].email").asString()).isEqualTo("a@kpi.ua");
+        assertThat(evaluate("content[-4].email").isMissingNode()).isTrue();
+    }
+
+    @Test(groups = {TestGroup.FRAMEWORK})
+    public void sizeCountsElementsAndCharacters() {
+        assertThat(evaluate("content.size()").asInt()).isEqualTo(3);
+        assertThat(evaluate("content[0].email.size()").asInt()).isEqualTo("a@kpi.ua".length());
+        assertThat(evaluate("totalElements.size()").isMissingNode()).isTrue();
+    }
+
+    @Test(groups = {TestGroup.FRAMEWORK})
+    public void fieldOfNestedArraysKeepsTheNesting() {
+        assertThat(evaluate("content.roles.name").toString())
+                .isEqualTo("[[\"MEMBER\",\"ADMIN\"],[\"MEMBER\"],[]]");
+        assertThat(evaluate("content.email").toString()).isEqualTo("[\"a@kpi.ua\",\"b@kpi.ua\",\"c@kpi.ua\"]");
+    }
+
+    @Test(groups = {TestGroup.FRAMEWORK})
+    public void jsonPointerResolvesAgainstTheRoot() {
+        assertThat(evaluate("/content/1/email").asString()).isEqualTo("b@kpi.ua");
+        assertThat(evaluate("/content/1/roles/0/name").asString()).isEqualTo("MEMBER");
+        assertThat(evaluate("/content/5").isMissingNode()).isTrue();
+    }
+
+    @Test(groups = {TestGroup.FRAMEWORK})
+    public void numbersMatchByValue() {
+        assertThat(equalTo(3).matches(evaluate("totalElements"))).isTrue();
+        assertThat(equalTo(3.0).matches(evaluate("content.size()"))).isTrue();
+        assertThat(equalTo(4).matches(evaluate("totalElements"))).isFalse();
+    }
+
+    private static JsonNode evaluate(String path) {
+        return JsonPathExpression.compile(path).evaluate(PAGE);
+    }
+}
@@ -0,0 +1,41 @@
+package ua.kpi.sc.test.api.tests.framework;
+
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.testng.annotations.Test;
+import ua.kpi.sc.test.api.base.BasePublicApiTest;
+import ua.kpi.sc.test.api.config.TestGroup;
+import ua.kpi.sc.test.api.util.ResponseBody;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Epic("Framework")
+@Feature("Response body")
+public class ResponseBodyTest extends BasePublicApiTest {
+
+    @Test(groups = {TestGroup.FRAMEWORK})
+    public void valuesAreTypedLikeJsonPath() {
+        Response response = new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType("application/json")
+                .setBody("""
+                        {"rating": 4.5, "count": 3, "views": 5000000000, "huge": 1e300,
+                         "tags": ["a", "b"], "owner": {"active": true, "score": 0.25}}
+                        """)
+                .build();
+        ResponseBody body = ResponseBody.of(response);
+
+        assertThat(body.value("rating")).isEqualTo(response.jsonPath().get("rating")).isEqualTo(4.5f);
+        assertThat(body.value("count")).isEqualTo(3);
+        assertThat(body.value("views")).isEqualTo(5_000_000_000L);
+        assertThat(body.value("huge")).isEqualTo(1e300);
+        assertThat(body.value("tags")).isEqualTo(List.of("a", "b"));
+        assertThat(body.value("owner")).isEqualTo(Map.of("active", true, "score", 0.25f));
+        assertThat(body.value("missing")).isNull();
+    }
+}
@@ -0,0 +1,134 @@
+package ua.kpi.sc.test.api.tests.framework;
+
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.testng.IMethodInstance;
+import org.testng.ITestNGMethod;
+import org.testng.annotations.Test;
+import ua.kpi.sc.test.api.annotation.ShardGroup;
+import ua.kpi.sc.test.api.base.BasePublicApiTest;
+import ua.kpi.sc.test.api.config.TestGroup;
+import ua.kpi.sc.test.api.listener.ShardPlanner;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Epic("Framework")
+@Feature("Sharding")
+public class ShardPlannerTest extends BasePublicApiTest {
+
+    private static final ToLongFunction<ITestNGMethod> ONE_SECOND = method -> 1_000;
+
+    @Test(groups = {TestGroup.FRAMEWORK})
+    public void shardsCoverEveryMethodExactlyOnce() {
+        List<IMethodInstance> methods = List.of(
+                method(Alpha.class, "a1"), method(Alpha.class, "a2"), method(Beta.class, "b1"),
+                method(Gamma.class, "g1"), method(Gamma.class, "g2"), method(Gamma.class, "g3"),
+                method(Delta.class, "d1"), method(Epsilon.class, "e1"));
+        Map<String, Long> durations = Map.of("g1", 9_000L, "a1", 4_000L, "d1", 3_000L);
+        ToLongFunction<ITestNGMethod> estimate = m -> durations.getOrDefault(m.getMethodName(), 500L);
+
+        List<String> covered = new ArrayList<>();
+        for (int index = 1; index <= 3; index++) {
+            covered.addAll(names(ShardPlanner.select(methods, index, 3, estimate)));
+        }
+
+        assertThat(covered).containsExactlyInAnyOrder("a1", "a2", "b1", "g1", "g2", "g3", "d1", "e1");
+    }
+
+    @Test(groups = {TestGroup.FRAMEWORK})
+    public void linkedClassesShareAShard() {
+        List<IMethodInstance> methods = List.of(
+                method(Alpha.class, "a1", new String[0], new String[] {Beta.class.getName() + ".b1"}, new String[0]),
+                method(Beta.class, "b1"),
+                method(Gamma.class, "g1", new String[] {"seeded"}, new String[0], new String[0]),
+                method(Delta.class, "d1", new String[0], new String[0], new String[] {"seeded"}),
+                method(SharedFixtureOne.class, "s1"),
+                method(SharedFixtureTwo.class, "s2"),
+                method(Epsilon.class, "e1"));
+
+        Map<String, Integer> shardOf = new HashMap<>();
+        for (int index = 1; index <= 4; index++) {
+            for (IMethodInstance selected : ShardPlanner.select(methods, index, 4, ONE_SECOND)) {
+                shardOf.put(selected.getMethod().getMethodName(), index);
+            }
+        }
+
+        assertThat(shardOf).hasSize(methods.size());
+        // dependsOnMethods, dependsOnGroups and a common @ShardGroup
+        assertThat(shardOf.get("a1")).isEqualTo(shardOf.get("b1"));
+        assertThat(shardOf.get("d1")).isEqualTo(shardOf.get("g1"));
+        assertThat(shardOf.get("s1")).isEqualTo(shardOf.get("s2"));
+    }
+
+    @Test(groups = {TestGroup.FRAMEWORK})
+    public void tiesAreBrokenByClassNameThenShardNumber() {
+        List<IMethodInstance> methods = List.of(
+                method(Gamma.class, "g1"), method(Beta.class, "b1"), method(Alpha.class, "a1"));
+
+        // Equal units go in class-name order onto the lowest-numbered of the least loaded shards
+        assertThat(names(ShardPlanner.select(methods, 1, 2, ONE_SECOND))).containsExactly("g1", "a1");
+        assertThat(names(ShardPlanner.select(methods, 2, 2, ONE_SECOND))).containsExactly("b1");
+        // The input order does not matter
+        assertThat(names(ShardPlanner.select(methods.reversed(), 2, 2, ONE_SECOND))).containsExactly("b1");
+    }
+
+    private static List<String> names(List<IMethodInstance> methods) {
+        return methods.stream().map(m -> m.getMethod().getMethodName()).toList();
+    }
+
+    private static IMethodInstance method(Class<?> testClass, String name) {
+        return method(testClass, name, new String[0], new String[0], new String[0]);
+    }
+
+    private static IMethodInstance method(Class<?> testClass, String name, String[] groups,
+                                          String[] methodsDependedUpon, String[] groupsDependedUpon) {
+        var method = (ITestNGMethod) Proxy.newProxyInstance(ITestNGMethod.class.getClassLoader(),
+                new Class<?>[] {ITestNGMethod.class}, (proxy, invoked, args) -> switch (invoked.getName()) {
+                    case "getRealClass" -> testClass;
+                    case "getMethodName" -> name;
+                    case "getQualifiedName", "toString" -> testClass.getName() + "." + name;
+                    case "getGroups" -> groups;
+                    case "getMethodsDependedUpon" -> methodsDependedUpon;
+                    case "getGroupsDependedUpon" -> groupsDependedUpon;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException(invoked.getName());
+                });
+        return new PlannedMethod(method);
+    }
+
+    private record PlannedMethod(ITestNGMethod method) implements IMethodInstance {
+        @Override
+        public ITestNGMethod getMethod() {
+            return method;
+        }
+
+        @Override
+        public Object getInstance() {
+            return null;
+        }
+    }
+
+    static class Alpha {}
+
+    static class Beta {}
+
+    static class Gamma {}
+
+    static class Delta {}
+
+    static class Epsilon {}
+
+    @ShardGroup("shared-fixture")
+    static class SharedFixtureOne {}
+
+    @ShardGroup("shared-fixture")
+    static class SharedFixtureTwo {}
+}
@@ -0,0 +1,71 @@
+package ua.kpi.sc.test.api.tests.framework;
+
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.testng.annotations.Test;
+import ua.kpi.sc.test.api.base.BasePublicApiTest;
+import ua.kpi.sc.test.api.config.Config;
+import ua.kpi.sc.test.api.config.TestGroup;
+import ua.kpi.sc.test.api.data.UserPool;
+import ua.kpi.sc.test.api.data.UserPool.PooledUser;
+import ua.kpi.sc.test.api.model.enums.CapabilityTier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Epic("Framework")
+@Feature("User pool")
+public class UserPoolTest extends BasePublicApiTest {
+
+    @Test(groups = {TestGroup.FRAMEWORK})
+    public void releasedLeaseDoesNotEndTheNextLeaseOfItsAccount() throws Exception {
+        PooledUser first = UserPool.lease(CapabilityTier.BASIC);
+        String accountId = first.id();
+        first.release();
+
+        try (ExecutorService other = Executors.newSingleThreadExecutor()) {
+            PooledUser second = other.submit(() -> leaseAccount(accountId)).get();
+            try {
+                // Ends what this method still holds; the released first lease must not return the account again
+                UserPool.returnLeases(true);
+
+                List<String> leased = other.submit(() -> leaseIds(Config.userPool().getSize() + 1)).get();
+                assertThat(leased).doesNotContain(accountId);
+            } finally {
+                second.release();
+            }
+        }
+    }
+
+    private static PooledUser leaseAccount(String accountId) {
+        List<PooledUser> others = new ArrayList<>();
+        try {
+            for (int i = 0; i <= 2 * Config.userPool().getSize() + 2; i++) {
+                PooledUser user = UserPool.lease(CapabilityTier.BASIC);
+                if (user.id().equals(accountId)) {
+                    return user;
+                }
+                others.add(user);
+            }
+            throw new AssertionError("Released account " + accountId + " was not leased again");
+        } finally {
+            others.forEach(PooledUser::release);
+        }
+    }
+
+    private static List<String> leaseIds(int count) {
+        List<PooledUser> users = new ArrayList<>();
+        try {
+            for (int i = 0; i < count; i++) {
+                users.add(UserPool.lease(CapabilityTier.BASIC));
+            }
+            return users.stream().map(PooledUser::id).toList();
+        } finally {
+            users.forEach(PooledUser::release);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package ua.kpi.sc.test.api.tests.performance;
+
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.testng.annotations.Test;
+import ua.kpi.sc.test.api.base.BaseAuthenticatedApiTest;
+import ua.kpi.sc.test.api.client.auth.AuthClient;
+import ua.kpi.sc.test.api.client.club.ClubClient;
+import ua.kpi.sc.test.api.client.project.ProjectClient;
+import ua.kpi.sc.test.api.client.user.UserClient;
+import ua.kpi.sc.test.api.config.TestGroup;
+import ua.kpi.sc.test.api.load.LoadEngine;
+import ua.kpi.sc.test.api.load.LoadProfile;
+import ua.kpi.sc.test.api.load.LoadResult;
+import ua.kpi.sc.test.api.load.LoadScenario;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Epic("Performance")
+@Feature("API Load")
+public class ApiLoadTest extends BaseAuthenticatedApiTest {
+
+    private final AuthClient authClient = new AuthClient();
+    private final UserClient userClient = new UserClient();
+    private final ClubClient clubClient = new ClubClient();
+    private final ProjectClient projectClient = new ProjectClient();
+
+    @Test(groups = {TestGroup.PERFORMANCE},
+            description = "Read endpoints sustain constant load")
+    public void readEndpointsSustainConstantLoad() {
+        String token = authToken();
+        LoadScenario scenario = LoadScenario.named("constant-read")
+                .request("GET /users", 3, () -> userClient.getUsers(token))
+                .request("GET /auth/me", 1, () -> authClient.getMe(token));
+
+        LoadResult result = LoadEngine.run(scenario, LoadProfile.constant(20, Duration.ofSeconds(30)));
+        result.attachToAllure();
+
+        assertThat(result.errorRate()).as("error rate").isLessThan(0.01);
+        assertThat(result.endpoint("GET /users").percentileMillis(99)).as("GET /users p99 ms").isLessThan(1000);
+        assertThat(result.endpoint("GET /auth/me").percentileMillis(99)).as("GET /auth/me p99 ms").isLessThan(500);
+    }
+
+    @Test(groups = {TestGroup.PERFORMANCE},
+            description = "Engagement listings hold latency under ramping load")
+    public void engagementListingsUnderRampingLoad() {
+        String token = authToken();
+        LoadScenario scenario = LoadScenario.named("ramp-engagements")
+                .request("GET /clubs", () -> clubClient.getClubs(token))
+                .request("GET /projects", () -> projectClient.getProjects(token));
+
+        LoadResult result = LoadEngine.run(scenario, LoadProfile.ramp(5, 50, Duration.ofSeconds(60)));
+        result.attachToAllure();
+
+        assertThat(result.errorRate()).as("error rate").isLessThan(0.01);
+        assertThat(result.endpoint("GET /clubs").percentileMillis(99)).as("GET /clubs p99 ms").isLessThan(1000);
+        assertThat(result.endpoint("GET /projects").percentileMillis(99)).as("GET /projects p99 ms").isLessThan(1000);
+    }
+
+    @Test(groups = {TestGroup.PERFORMANCE},
+            description = "Current user endpoint scales across load steps")
+    public void currentUserAcrossLoadSteps() {
+        String token = authToken();
+        LoadScenario scenario = LoadScenario.named("steps-current-user")
+                .request("GET /users/me", () -> userClient.getCurrentUser(token));
+
+        LoadResult result = LoadEngine.run(scenario, LoadProfile.steps(Duration.ofSeconds(15), 10, 25, 50, 100));
+        result.attachToAllure();
+
+        assertThat(result.dropped()).as("dropped arrivals").isZero();
+        assertThat(result.errorRate()).as("error rate").isLessThan(0.01);
+        assertThat(result.endpoint("GET /users/me").percentileMillis(99)).as("GET /users/me p99 ms").isLessThan(500);
+    }
+}
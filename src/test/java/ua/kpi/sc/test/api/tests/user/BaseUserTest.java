@@ -22,7 +22,7 @@ public abstract class BaseUserTest extends BaseAdminApiTest {
 
     protected UserResponse registerTestUserFull() {
         String userId = registerTestUser();
-        Response response = userClient.getUserById(userId, authToken);
+        Response response = userClient.getUserById(userId, authToken());
         assertOk(response);
         return response.as(UserResponse.class);
     }
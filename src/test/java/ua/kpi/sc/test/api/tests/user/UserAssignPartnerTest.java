@@ -22,7 +22,7 @@ public class UserAssignPartnerTest extends BaseUserTest {
         String userId = registerTestUser();
         AssignPartnerLevelRequest request = TestDataFactory.validAssignPartnerRequest();
 
-        Response response = userClient.assignPartnerLevel(userId, request, authToken);
+        Response response = userClient.assignPartnerLevel(userId, request, authToken());
 
         assertCreated(response);
         response.then()
@@ -38,7 +38,7 @@ public class UserAssignPartnerTest extends BaseUserTest {
             String userId = registerTestUser();
             AssignPartnerLevelRequest request = TestDataFactory.assignPartnerRequest(level);
 
-            Response response = userClient.assignPartnerLevel(userId, request, authToken);
+            Response response = userClient.assignPartnerLevel(userId, request, authToken());
 
             assertCreated(response);
             response.then()
@@ -53,11 +53,11 @@ public class UserAssignPartnerTest extends BaseUserTest {
         AssignPartnerLevelRequest request = TestDataFactory.assignPartnerRequest("basic");
 
         // First assignment
-        userClient.assignPartnerLevel(userId, request, authToken);
+        userClient.assignPartnerLevel(userId, request, authToken());
 
         // Upsert to full with same partnerId
         request.setLevel("full");
-        Response response = userClient.assignPartnerLevel(userId, request, authToken);
+        Response response = userClient.assignPartnerLevel(userId, request, authToken());
 
         assertCreated(response);
         response.then()
@@ -69,9 +69,9 @@ public class UserAssignPartnerTest extends BaseUserTest {
     public void assignedPartnerAppearsInUserResponse() {
         String userId = registerTestUser();
         AssignPartnerLevelRequest request = TestDataFactory.validAssignPartnerRequest();
-        userClient.assignPartnerLevel(userId, request, authToken);
+        userClient.assignPartnerLevel(userId, request, authToken());
 
-        Response response = userClient.getUserById(userId, authToken);
+        Response response = userClient.getUserById(userId, authToken());
 
         assertOk(response);
         response.then()
@@ -87,7 +87,7 @@ public class UserAssignPartnerTest extends BaseUserTest {
                 .level("invalid")
                 .build();
 
-        Response response = userClient.assignPartnerLevel(userId, request, authToken);
+        Response response = userClient.assignPartnerLevel(userId, request, authToken());
 
         assertStatus(response, 400);
     }
@@ -97,7 +97,7 @@ public class UserAssignPartnerTest extends BaseUserTest {
     public void assignToNonExistentUserReturns404() {
         AssignPartnerLevelRequest request = TestDataFactory.validAssignPartnerRequest();
 
-        Response response = userClient.assignPartnerLevel(TestDataFactory.randomId(), request, authToken);
+        Response response = userClient.assignPartnerLevel(TestDataFactory.randomId(), request, authToken());
 
         assertStatus(response, 404);
     }
@@ -23,7 +23,7 @@ public class UserCreateTest extends BaseUserTest {
     public void createUserReturns201() {
         CreateUserRequest request = TestDataFactory.validCreateUserRequest();
 
-        Response response = userClient.createUser(request, authToken);
+        Response response = userClient.createUser(request, authToken());
 
         assertCreated(response);
         response.then()
@@ -37,7 +37,7 @@ public class UserCreateTest extends BaseUserTest {
     public void createUserWithEachTier() {
         for (int tier = 0; tier <= 5; tier++) {
             CreateUserRequest request = TestDataFactory.createUserRequestWithTier(tier);
-            Response response = userClient.createUser(request, authToken);
+            Response response = userClient.createUser(request, authToken());
             assertCreated(response);
             response.then()
                     .body("capabilityTier", equalTo(tier));
@@ -48,10 +48,10 @@ public class UserCreateTest extends BaseUserTest {
             description = "Created user appears in user list")
     public void createdUserAppearsInList() {
         CreateUserRequest request = TestDataFactory.validCreateUserRequest();
-        Response createResponse = userClient.createUser(request, authToken);
+        Response createResponse = userClient.createUser(request, authToken());
         assertCreated(createResponse);
 
-        Response listResponse = userClient.getUsers(authToken, Map.of("search", request.getEmail()));
+        Response listResponse = userClient.getUsers(authToken(), Map.of("search", request.getEmail()));
         assertOk(listResponse);
         listResponse.then()
                 .body("content.email", hasItem(request.getEmail()));
@@ -61,10 +61,10 @@ public class UserCreateTest extends BaseUserTest {
             description = "Create user with duplicate email returns 409")
     public void createUserDuplicateEmailReturns409() {
         CreateUserRequest request = TestDataFactory.validCreateUserRequest();
-        userClient.createUser(request, authToken);
+        userClient.createUser(request, authToken());
 
         // Try to create again with same email
-        Response response = userClient.createUser(request, authToken);
+        Response response = userClient.createUser(request, authToken());
         assertStatus(response, 409);
     }
 
@@ -74,7 +74,7 @@ public class UserCreateTest extends BaseUserTest {
         CreateUserRequest request = TestDataFactory.validCreateUserRequest();
         request.setEmail("not-an-email");
 
-        Response response = userClient.createUser(request, authToken);
+        Response response = userClient.createUser(request, authToken());
         assertStatus(response, 400);
     }
 
@@ -84,7 +84,7 @@ public class UserCreateTest extends BaseUserTest {
         CreateUserRequest request = TestDataFactory.validCreateUserRequest();
         request.setPassword("short");
 
-        Response response = userClient.createUser(request, authToken);
+        Response response = userClient.createUser(request, authToken());
         assertStatus(response, 400);
     }
 
@@ -95,7 +95,7 @@ public class UserCreateTest extends BaseUserTest {
         request.setFirstName("");
         request.setLastName("");
 
-        Response response = userClient.createUser(request, authToken);
+        Response response = userClient.createUser(request, authToken());
         assertStatus(response, 400);
     }
 
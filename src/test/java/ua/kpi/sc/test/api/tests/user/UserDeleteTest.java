@@ -18,7 +18,7 @@ public class UserDeleteTest extends BaseUserTest {
     public void deleteUserReturns204() {
         String userId = registerTestUser();
 
-        Response response = userClient.deleteUser(userId, authToken);
+        Response response = userClient.deleteUser(userId, authToken());
 
         assertNoContent(response);
     }
@@ -27,9 +27,9 @@ public class UserDeleteTest extends BaseUserTest {
             description = "Deleted user is deactivated")
     public void deletedUserIsDeactivated() {
         String userId = registerTestUser();
-        userClient.deleteUser(userId, authToken);
+        userClient.deleteUser(userId, authToken());
 
-        Response response = userClient.getUserById(userId, authToken);
+        Response response = userClient.getUserById(userId, authToken());
 
         assertOk(response);
         response.then()
@@ -39,7 +39,7 @@ public class UserDeleteTest extends BaseUserTest {
     @Test(groups = {TestGroup.NEGATIVE},
             description = "Delete non-existent user returns 404")
     public void deleteNonExistentUserReturns404() {
-        Response response = userClient.deleteUser(TestDataFactory.randomId(), authToken);
+        Response response = userClient.deleteUser(TestDataFactory.randomId(), authToken());
 
         assertStatus(response, 404);
     }
@@ -18,7 +18,7 @@ public class UserGetByIdTest extends BaseUserTest {
     public void getUserByIdReturns200() {
         String userId = registerTestUser();
 
-        Response response = userClient.getUserById(userId, authToken);
+        Response response = userClient.getUserById(userId, authToken());
 
         assertOk(response);
         response.then()
@@ -38,9 +38,9 @@ public class UserGetByIdTest extends BaseUserTest {
 
         // Assign a partner level
         var assignRequest = TestDataFactory.validAssignPartnerRequest();
-        userClient.assignPartnerLevel(userId, assignRequest, authToken);
+        userClient.assignPartnerLevel(userId, assignRequest, authToken());
 
-        Response response = userClient.getUserById(userId, authToken);
+        Response response = userClient.getUserById(userId, authToken());
 
         assertOk(response);
         response.then()
@@ -50,7 +50,7 @@ public class UserGetByIdTest extends BaseUserTest {
     @Test(groups = {TestGroup.NEGATIVE},
             description = "Get non-existent user returns 404")
     public void getNonExistentUserReturns404() {
-        Response response = userClient.getUserById(TestDataFactory.randomId(), authToken);
+        Response response = userClient.getUserById(TestDataFactory.randomId(), authToken());
 
         assertStatus(response, 404);
     }
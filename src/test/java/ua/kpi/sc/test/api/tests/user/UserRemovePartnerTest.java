@@ -19,9 +19,9 @@ public class UserRemovePartnerTest extends BaseUserTest {
     public void removePartnerLevelReturns204() {
         String userId = registerTestUser();
         AssignPartnerLevelRequest request = TestDataFactory.validAssignPartnerRequest();
-        userClient.assignPartnerLevel(userId, request, authToken);
+        userClient.assignPartnerLevel(userId, request, authToken());
 
-        Response response = userClient.removePartnerLevel(userId, request.getPartnerId(), authToken);
+        Response response = userClient.removePartnerLevel(userId, request.getPartnerId(), authToken());
 
         assertNoContent(response);
     }
@@ -31,10 +31,10 @@ public class UserRemovePartnerTest extends BaseUserTest {
     public void removedPartnerGoneFromUser() {
         String userId = registerTestUser();
         AssignPartnerLevelRequest request = TestDataFactory.validAssignPartnerRequest();
-        userClient.assignPartnerLevel(userId, request, authToken);
-        userClient.removePartnerLevel(userId, request.getPartnerId(), authToken);
+        userClient.assignPartnerLevel(userId, request, authToken());
+        userClient.removePartnerLevel(userId, request.getPartnerId(), authToken());
 
-        Response response = userClient.getUserById(userId, authToken);
+        Response response = userClient.getUserById(userId, authToken());
 
         assertOk(response);
         response.then()
@@ -45,7 +45,7 @@ public class UserRemovePartnerTest extends BaseUserTest {
             description = "Remove partner for non-existent user returns 404")
     public void removePartnerForNonExistentUserReturns404() {
         Response response = userClient.removePartnerLevel(
-                TestDataFactory.randomId(), TestDataFactory.randomId(), authToken);
+                TestDataFactory.randomId(), TestDataFactory.randomId(), authToken());
 
         assertStatus(response, 404);
     }
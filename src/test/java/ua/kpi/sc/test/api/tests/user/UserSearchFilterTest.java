@@ -12,9 +12,10 @@ import ua.kpi.sc.test.api.model.user.CreateUserRequest;
 import ua.kpi.sc.test.api.model.user.UpdateStatusRequest;
 import ua.kpi.sc.test.api.model.user.UpdateTierRequest;
 
-import static org.hamcrest.Matchers.equalTo;
-import static org.hamcrest.Matchers.greaterThanOrEqualTo;
-import static org.hamcrest.Matchers.hasItem;
+import static ua.kpi.sc.test.api.assertion.JsonAssert.assertThatJson;
+import static ua.kpi.sc.test.api.assertion.JsonMatchers.equalTo;
+import static ua.kpi.sc.test.api.assertion.JsonMatchers.greaterThanOrEqualTo;
+import static ua.kpi.sc.test.api.assertion.JsonMatchers.hasItem;
 
 @Epic("User Management")
 @Feature("User Search and Filter")
@@ -26,12 +27,12 @@ public class UserSearchFilterTest extends BaseUserTest {
         String uniqueName = "UniqueXyz" + System.nanoTime();
         CreateUserRequest request = TestDataFactory.validCreateUserRequest();
         request.setFirstName(uniqueName);
-        userClient.createUser(request, authToken);
+        userClient.createUser(request, authToken());
 
-        Response response = userClient.getUsers(authToken, Map.of("search", uniqueName));
+        Response response = userClient.getUsers(authToken(), Map.of("search", uniqueName));
 
         assertOk(response);
-        response.then()
+        assertThatJson(response)
                 .body("content.firstName", hasItem(uniqueName));
     }
 
@@ -39,13 +40,13 @@ public class UserSearchFilterTest extends BaseUserTest {
             description = "Search by email substring returns results")
     public void searchByEmailSubstring() {
         CreateUserRequest request = TestDataFactory.validCreateUserRequest();
-        userClient.createUser(request, authToken);
+        userClient.createUser(request, authToken());
         String emailDomain = request.getEmail().split("@")[1];
 
-        Response response = userClient.getUsers(authToken, Map.of("search", emailDomain));
+        Response response = userClient.getUsers(authToken(), Map.of("search", emailDomain));
 
         assertOk(response);
-        response.then()
+        assertThatJson(response)
                 .body("content.size()", greaterThanOrEqualTo(1));
     }
 
@@ -53,13 +54,13 @@ public class UserSearchFilterTest extends BaseUserTest {
             description = "Filter by tier returns matching users")
     public void filterByTierReturnsMatching() {
         CreateUserRequest request = TestDataFactory.createUserRequestWithTier(3);
-        Response createResponse = userClient.createUser(request, authToken);
+        Response createResponse = userClient.createUser(request, authToken());
         assertCreated(createResponse);
 
-        Response response = userClient.getUsers(authToken, Map.of("tier", "3"));
+        Response response = userClient.getUsers(authToken(), Map.of("tier", "3"));
 
         assertOk(response);
-        response.then()
+        assertThatJson(response)
                 .body("content.size()", greaterThanOrEqualTo(1))
                 .body("content[0].capabilityTier", equalTo(3));
     }
@@ -69,12 +70,12 @@ public class UserSearchFilterTest extends BaseUserTest {
     public void filterByActiveStatus() {
         String userId = registerTestUser();
         userClient.updateStatus(userId,
-                UpdateStatusRequest.builder().active(false).build(), authToken);
+                UpdateStatusRequest.builder().active(false).build(), authToken());
 
-        Response response = userClient.getUsers(authToken, Map.of("active", "false"));
+        Response response = userClient.getUsers(authToken(), Map.of("active", "false"));
 
         assertOk(response);
-        response.then()
+        assertThatJson(response)
                 .body("content.size()", greaterThanOrEqualTo(1));
     }
 
@@ -84,24 +85,24 @@ public class UserSearchFilterTest extends BaseUserTest {
         String uniqueName = "CombinedFilter" + System.nanoTime();
         CreateUserRequest request = TestDataFactory.createUserRequestWithTier(1);
         request.setFirstName(uniqueName);
-        userClient.createUser(request, authToken);
+        userClient.createUser(request, authToken());
 
-        Response response = userClient.getUsers(authToken,
+        Response response = userClient.getUsers(authToken(),
                 Map.of("search", uniqueName, "tier", "1", "active", "true"));
 
         assertOk(response);
-        response.then()
+        assertThatJson(response)
                 .body("content.size()", greaterThanOrEqualTo(1));
     }
 
     @Test(groups = {TestGroup.POSITIVE},
             description = "Search with no match returns empty content")
     public void searchNoMatchReturnsEmpty() {
-        Response response = userClient.getUsers(authToken,
+        Response response = userClient.getUsers(authToken(),
                 Map.of("search", "NonExistentXyzQwerty99999"));
 
         assertOk(response);
-        response.then()
+        assertThatJson(response)
                 .body("content.size()", equalTo(0));
     }
 }
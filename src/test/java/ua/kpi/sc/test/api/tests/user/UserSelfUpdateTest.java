@@ -24,7 +24,7 @@ public class UserSelfUpdateTest extends BaseAuthenticatedApiTest {
     public void updateSelfReturns200() {
         UserUpdateRequest request = TestDataFactory.validUserUpdateRequest();
 
-        Response response = userClient.updateSelf(request, authToken);
+        Response response = userClient.updateSelf(request, authToken());
 
         assertOk(response);
         response.then()
@@ -36,7 +36,7 @@ public class UserSelfUpdateTest extends BaseAuthenticatedApiTest {
             description = "Update self preserves other fields")
     public void updateSelfPreservesOtherFields() {
         // Get current state
-        Response currentResponse = userClient.getCurrentUser(authToken);
+        Response currentResponse = userClient.getCurrentUser(authToken());
         assertOk(currentResponse);
         String email = currentResponse.jsonPath().getString("email");
         int tier = currentResponse.jsonPath().getInt("capabilityTier");
@@ -44,7 +44,7 @@ public class UserSelfUpdateTest extends BaseAuthenticatedApiTest {
 
         // Update name only
         UserUpdateRequest request = TestDataFactory.validUserUpdateRequest();
-        Response response = userClient.updateSelf(request, authToken);
+        Response response = userClient.updateSelf(request, authToken());
 
         assertOk(response);
         response.then()
@@ -61,7 +61,7 @@ public class UserSelfUpdateTest extends BaseAuthenticatedApiTest {
                 .lastName("")
                 .build();
 
-        Response response = userClient.updateSelf(request, authToken);
+        Response response = userClient.updateSelf(request, authToken());
 
         assertStatus(response, 400);
     }
@@ -81,7 +81,7 @@ public class UserSelfUpdateTest extends BaseAuthenticatedApiTest {
     public void putMeReturns405() {
         UserUpdateRequest request = TestDataFactory.validUserUpdateRequest();
 
-        Response response = userClient.updateSelfPut(request, authToken);
+        Response response = userClient.updateSelfPut(request, authToken());
 
         assertStatus(response, 405);
     }
@@ -89,7 +89,7 @@ public class UserSelfUpdateTest extends BaseAuthenticatedApiTest {
     @Test(groups = {TestGroup.SMOKE},
             description = "GET /users/me returns current user profile")
     public void getMeReturns200() {
-        Response response = userClient.getCurrentUser(authToken);
+        Response response = userClient.getCurrentUser(authToken());
 
         assertOk(response);
         response.then()
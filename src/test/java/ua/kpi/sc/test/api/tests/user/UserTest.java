@@ -18,7 +18,7 @@ public class UserTest extends BaseUserTest {
     @Test(groups = {TestGroup.SMOKE},
             description = "List users returns paginated response")
     public void listUsersReturnsPaginatedResponse() {
-        Response response = userClient.getUsers(authToken);
+        Response response = userClient.getUsers(authToken());
 
         assertOk(response);
         response.then()
@@ -31,7 +31,7 @@ public class UserTest extends BaseUserTest {
     public void listUsersContainsRegisteredUser() {
         var registered = registerTestUserFull();
 
-        Response response = userClient.getUsers(authToken, java.util.Map.of("search", registered.getEmail()));
+        Response response = userClient.getUsers(authToken(), java.util.Map.of("search", registered.getEmail()));
 
         assertOk(response);
         response.then()
@@ -43,7 +43,7 @@ public class UserTest extends BaseUserTest {
     public void listUsersPaginationWorks() {
         registerTestUser();
 
-        Response response = userClient.getUsers(authToken,
+        Response response = userClient.getUsers(authToken(),
                 java.util.Map.of("size", "1"));
 
         assertOk(response);
@@ -23,7 +23,7 @@ public class UserUpdateProfileTest extends BaseUserTest {
         String userId = registerTestUser();
         UserUpdateRequest request = TestDataFactory.validUserUpdateRequest();
 
-        Response response = userClient.updateUser(userId, request, authToken);
+        Response response = userClient.updateUser(userId, request, authToken());
 
         assertOk(response);
         UserResponse body = response.as(UserResponse.class);
@@ -39,7 +39,7 @@ public class UserUpdateProfileTest extends BaseUserTest {
         UserResponse original = registerTestUserFull();
         UserUpdateRequest request = TestDataFactory.validUserUpdateRequest();
 
-        Response response = userClient.updateUser(original.getId(), request, authToken);
+        Response response = userClient.updateUser(original.getId(), request, authToken());
 
         assertOk(response);
         UserResponse updated = response.as(UserResponse.class);
@@ -57,7 +57,7 @@ public class UserUpdateProfileTest extends BaseUserTest {
                 .lastName("Kept")
                 .build();
 
-        Response response = userClient.updateUser(userId, request, authToken);
+        Response response = userClient.updateUser(userId, request, authToken());
 
         assertOk(response);
         UserResponse body = response.as(UserResponse.class);
@@ -71,7 +71,7 @@ public class UserUpdateProfileTest extends BaseUserTest {
     public void updateNonExistentUserReturns404() {
         UserUpdateRequest request = TestDataFactory.validUserUpdateRequest();
 
-        Response response = userClient.updateUser(TestDataFactory.randomId(), request, authToken);
+        Response response = userClient.updateUser(TestDataFactory.randomId(), request, authToken());
 
         assertStatus(response, 404);
     }
@@ -85,7 +85,7 @@ public class UserUpdateProfileTest extends BaseUserTest {
                 .lastName("")
                 .build();
 
-        Response response = userClient.updateUser(userId, request, authToken);
+        Response response = userClient.updateUser(userId, request, authToken());
 
         assertStatus(response, 400);
     }
@@ -98,7 +98,7 @@ public class UserUpdateProfileTest extends BaseUserTest {
         String userId = registerTestUser();
         UserUpdateRequest request = TestDataFactory.validUserUpdateRequest();
 
-        Response response = userClient.updateUserPut(userId, request, authToken);
+        Response response = userClient.updateUserPut(userId, request, authToken());
 
         assertStatus(response, 405);
     }
@@ -23,7 +23,7 @@ public class UserUpdateStatusTest extends BaseUserTest {
         String userId = registerTestUser();
         UpdateStatusRequest request = TestDataFactory.validUpdateStatusRequest(false);
 
-        Response response = userClient.updateStatus(userId, request, authToken);
+        Response response = userClient.updateStatus(userId, request, authToken());
 
         assertOk(response);
         UserResponse body = response.as(UserResponse.class);
@@ -38,11 +38,11 @@ public class UserUpdateStatusTest extends BaseUserTest {
         String userId = registerTestUser();
 
         // First deactivate
-        userClient.updateStatus(userId, TestDataFactory.validUpdateStatusRequest(false), authToken);
+        userClient.updateStatus(userId, TestDataFactory.validUpdateStatusRequest(false), authToken());
 
         // Then reactivate
         UpdateStatusRequest request = TestDataFactory.validUpdateStatusRequest(true);
-        Response response = userClient.updateStatus(userId, request, authToken);
+        Response response = userClient.updateStatus(userId, request, authToken());
 
         assertOk(response);
         UserResponse body = response.as(UserResponse.class);
@@ -56,7 +56,7 @@ public class UserUpdateStatusTest extends BaseUserTest {
     public void updateStatusForNonExistentUserReturns404() {
         UpdateStatusRequest request = TestDataFactory.validUpdateStatusRequest(false);
 
-        Response response = userClient.updateStatus(TestDataFactory.randomId(), request, authToken);
+        Response response = userClient.updateStatus(TestDataFactory.randomId(), request, authToken());
 
         assertStatus(response, 404);
     }
@@ -69,7 +69,7 @@ public class UserUpdateStatusTest extends BaseUserTest {
         String userId = registerTestUser();
         UpdateStatusRequest request = TestDataFactory.validUpdateStatusRequest(false);
 
-        Response response = userClient.updateStatusPut(userId, request, authToken);
+        Response response = userClient.updateStatusPut(userId, request, authToken());
 
         assertStatus(response, 405);
     }
@@ -23,7 +23,7 @@ public class UserUpdateTierTest extends BaseUserTest {
         String userId = registerTestUser();
         UpdateTierRequest request = UpdateTierRequest.builder().tier(3).build();
 
-        Response response = userClient.updateTier(userId, request, authToken);
+        Response response = userClient.updateTier(userId, request, authToken());
 
         assertOk(response);
         UserResponse body = response.as(UserResponse.class);
@@ -40,7 +40,7 @@ public class UserUpdateTierTest extends BaseUserTest {
         for (int tier = 0; tier <= 5; tier++) {
             UpdateTierRequest request = UpdateTierRequest.builder().tier(tier).build();
 
-            Response response = userClient.updateTier(userId, request, authToken);
+            Response response = userClient.updateTier(userId, request, authToken());
 
             assertOk(response);
             UserResponse body = response.as(UserResponse.class);
@@ -56,7 +56,7 @@ public class UserUpdateTierTest extends BaseUserTest {
         String userId = registerTestUser();
         UpdateTierRequest request = UpdateTierRequest.builder().tier(-1).build();
 
-        Response response = userClient.updateTier(userId, request, authToken);
+        Response response = userClient.updateTier(userId, request, authToken());
 
         assertStatus(response, 400);
     }
@@ -66,7 +66,7 @@ public class UserUpdateTierTest extends BaseUserTest {
     public void updateTierForNonExistentUserReturns404() {
         UpdateTierRequest request = UpdateTierRequest.builder().tier(3).build();
 
-        Response response = userClient.updateTier(TestDataFactory.randomId(), request, authToken);
+        Response response = userClient.updateTier(TestDataFactory.randomId(), request, authToken());
 
         assertStatus(response, 404);
     }
@@ -79,7 +79,7 @@ public class UserUpdateTierTest extends BaseUserTest {
         String userId = registerTestUser();
         UpdateTierRequest request = UpdateTierRequest.builder().tier(3).build();
 
-        Response response = userClient.updateTierPut(userId, request, authToken);
+        Response response = userClient.updateTierPut(userId, request, authToken());
 
         assertStatus(response, 405);
     }